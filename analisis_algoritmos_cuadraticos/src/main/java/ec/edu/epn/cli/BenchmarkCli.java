@@ -0,0 +1,308 @@
+package ec.edu.epn.cli;
+
+import ec.edu.epn.model.DataGenerator;
+import ec.edu.epn.model.DatasetCache;
+import ec.edu.epn.model.InputShapes;
+import ec.edu.epn.model.SortAlgorithm;
+import ec.edu.epn.model.SortAlgorithms;
+import ec.edu.epn.model.benchmark.BenchmarkResult;
+import ec.edu.epn.model.benchmark.BenchmarkRunner;
+import ec.edu.epn.model.benchmark.BranchCostComparison;
+import ec.edu.epn.model.benchmark.ComplexityFit;
+import ec.edu.epn.model.benchmark.ExcelResultExporter;
+import ec.edu.epn.model.benchmark.MeasurementEngine;
+import ec.edu.epn.model.benchmark.ResultWriter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Punto de entrada sin interfaz gráfica para medir los algoritmos de
+ * ordenamiento y escribir los resultados en CSV, JSON o Excel.
+ *
+ * <p>
+ * Esta clase y todo lo que usa pertenecen al modelo: nunca se carga ninguna
+ * clase {@code javafx.*}, así que puede ejecutarse en máquinas sin pantalla y
+ * con solo las clases compiladas en el classpath (Apache POI solo hace falta
+ * con {@code --format xlsx}):
+ * </p>
+ *
+ * <pre>{@code
+ * java -cp analisis_algoritmos_cuadraticos/target/classes ec.edu.epn.cli.BenchmarkCli \
+ *     --algorithms "Bubble Sort,Insertion Sort" --sizes 1000,10000 \
+ *     --types Aleatoria,Ordenada --format json --output resultados.json
+ * }</pre>
+ *
+ * <p>
+ * Con {@code --mode branches} no se miden los algoritmos indicados sino Bubble
+ * Sort y Selection Sort frente a sus variantes sin saltos, y se escribe en CSV
+ * cuánto más rápida es cada variante por tipo de lista (ver
+ * {@link BranchCostComparison}).
+ * </p>
+ *
+ * <p>
+ * Con {@code --mode fit} se miden los algoritmos indicados y, en lugar de las
+ * muestras, se escribe en CSV el ajuste de complejidad ({@link ComplexityFit})
+ * de cada algoritmo y tipo de lista: exponente, constantes y R². El ajuste
+ * cuadrático necesita al menos tres tamaños.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class BenchmarkCli {
+
+    private static final String USAGE = String.join("\n",
+            "Uso: java -cp <classes> ec.edu.epn.cli.BenchmarkCli [opciones]",
+            "  --algorithms <a,b,...>  algoritmos a medir (por defecto: todos)",
+            "  --sizes <n,m,...>       tamaños de arreglo (por defecto: 100,1000,10000)",
+            "  --types <t,u,...>       tipos de lista (por defecto: todos)",
+            "  --warmup <k>            ejecuciones máximas de calentamiento; se detiene antes al",
+            "                          alcanzar el régimen estable (por defecto: 100)",
+            "  --repeats <k>           ejecuciones medidas (por defecto: 5)",
+            "  --budget <ms>           tiempo máximo de calentamiento y medición por",
+            "                          configuración (por defecto: 2000)",
+            "  --seed <s>              semilla de las entradas (por defecto: 42)",
+            "  --disorder <f>          fracción de intercambios de \"Casi ordenada\" (por defecto: 0.1)",
+            "  --distinct <k>          valores distintos de \"Con duplicados\" (por defecto: rango/5)",
+            "  --cache <directorio>    guarda y reutiliza las entradas en disco",
+            "  --format <csv|json|xlsx> formato de salida (por defecto: csv)",
+            "  --output <archivo>      archivo de salida (por defecto: salida estándar;",
+            "                          obligatorio con xlsx)",
+            "  --mode <times|branches|fit> mide los algoritmos (por defecto), compara Bubble y",
+            "                          Selection Sort con sus variantes sin saltos (solo csv)",
+            "                          o ajusta la complejidad de cada algoritmo y tipo de",
+            "                          lista (solo csv, al menos tres tamaños)",
+            "Algoritmos: " + String.join(", ", SortAlgorithms.names()),
+            "Tipos de lista: " + String.join(", ", InputShapes.LIST_TYPES));
+
+    private BenchmarkCli() {
+    }
+
+    /**
+     * Ejecuta las mediciones indicadas por los argumentos.
+     *
+     * @param args argumentos de línea de comandos
+     */
+    public static void main(String[] args) {
+        List<String> algorithms = SortAlgorithms.names();
+        int[] sizes = { 100, 1_000, 10_000 };
+        List<String> types = InputShapes.LIST_TYPES;
+        int warmup = 100;
+        int repeats = 5;
+        double budget = BenchmarkRunner.DEFAULT_BUDGET_MS;
+        long seed = 42L;
+        double disorder = DataGenerator.DEFAULT_DISORDER_FRACTION;
+        int distinct = 0;
+        String cacheDir = null;
+        String format = "csv";
+        String output = null;
+        String mode = "times";
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if ("--help".equals(option) || "-h".equals(option)) {
+                    System.out.println(USAGE);
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Falta el valor de " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--algorithms":
+                        algorithms = splitList(value);
+                        break;
+                    case "--sizes":
+                        sizes = splitList(value).stream().mapToInt(Integer::parseInt).toArray();
+                        break;
+                    case "--types":
+                        types = splitList(value);
+                        break;
+                    case "--warmup":
+                        warmup = Integer.parseInt(value);
+                        break;
+                    case "--repeats":
+                        repeats = Integer.parseInt(value);
+                        break;
+                    case "--budget":
+                        budget = Double.parseDouble(value);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--disorder":
+                        disorder = Double.parseDouble(value);
+                        break;
+                    case "--distinct":
+                        distinct = Integer.parseInt(value);
+                        break;
+                    case "--cache":
+                        cacheDir = value;
+                        break;
+                    case "--format":
+                        format = value;
+                        break;
+                    case "--output":
+                        output = value;
+                        break;
+                    case "--mode":
+                        mode = value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Opción desconocida: " + option);
+                }
+            }
+            if (!"csv".equals(format) && !"json".equals(format) && !"xlsx".equals(format)) {
+                throw new IllegalArgumentException("Formato desconocido: " + format);
+            }
+            if (!"times".equals(mode) && !"branches".equals(mode) && !"fit".equals(mode)) {
+                throw new IllegalArgumentException("Modo desconocido: " + mode);
+            }
+            if (!"times".equals(mode) && !"csv".equals(format)) {
+                throw new IllegalArgumentException("El modo " + mode + " solo admite el formato csv");
+            }
+            if ("xlsx".equals(format) && output == null) {
+                throw new IllegalArgumentException("El formato xlsx necesita --output");
+            }
+            for (String type : types) {
+                if (!InputShapes.LIST_TYPES.contains(type)) {
+                    throw new IllegalArgumentException("Tipo de lista desconocido: " + type);
+                }
+            }
+
+            List<SortAlgorithm> selected = new ArrayList<>();
+            for (String name : algorithms) {
+                selected.add(SortAlgorithms.byName(name));
+            }
+
+            DataGenerator generator = new DataGenerator(seed, disorder, distinct);
+            MeasurementEngine engine = new MeasurementEngine(warmup, repeats, repeats, budget);
+            BenchmarkRunner runner = cacheDir == null
+                    ? new BenchmarkRunner(engine, generator)
+                    : new BenchmarkRunner(engine, new DatasetCache(Paths.get(cacheDir), generator));
+            if ("branches".equals(mode)) {
+                writeBranchCost(BranchCostComparison.measure(runner, sizes, types), output);
+            } else if ("fit".equals(mode)) {
+                writeFits(ComplexityFit.fitAll(runner.run(selected, sizes, types)), output);
+            } else if ("xlsx".equals(format)) {
+                exportExcel(runner, selected, sizes, types, output);
+            } else {
+                write(runner.run(selected, sizes, types), format, output);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        } catch (IOException e) {
+            System.err.println("Error al escribir los resultados: " + e.getMessage());
+            System.exit(1);
+        } catch (UncheckedIOException e) {
+            System.err.println("Error al leer las entradas guardadas: " + e.getCause().getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Escribe los resultados en el formato y destino indicados.
+     *
+     * @param results resultados a escribir
+     * @param format  "csv" o "json"
+     * @param output  ruta del archivo, o {@code null} para la salida estándar
+     * @throws IOException si falla la escritura
+     */
+    private static void write(List<BenchmarkResult> results, String format, String output) throws IOException {
+        Writer out = output == null
+                ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+                : Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8);
+        try {
+            if ("json".equals(format)) {
+                ResultWriter.writeJson(results, out);
+            } else {
+                ResultWriter.writeCsv(results, out);
+            }
+        } finally {
+            if (output != null) {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Escribe la comparación entre versiones con y sin saltos en CSV.
+     *
+     * @param entries entradas de la comparación
+     * @param output  ruta del archivo, o {@code null} para la salida estándar
+     * @throws IOException si falla la escritura
+     */
+    private static void writeBranchCost(List<BranchCostComparison.Entry> entries, String output)
+            throws IOException {
+        Writer out = output == null
+                ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+                : Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8);
+        try {
+            BranchCostComparison.writeCsv(entries, out);
+        } finally {
+            if (output != null) {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Escribe los ajustes de complejidad en CSV.
+     *
+     * @param fits   un ajuste por algoritmo y tipo de lista
+     * @param output ruta del archivo, o {@code null} para la salida estándar
+     * @throws IOException si falla la escritura
+     */
+    private static void writeFits(List<ComplexityFit> fits, String output) throws IOException {
+        Writer out = output == null
+                ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+                : Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8);
+        try {
+            ComplexityFit.writeCsv(fits, out);
+        } finally {
+            if (output != null) {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Mide y exporta a Excel a la vez: cada resultado se entrega al
+     * exportador en cuanto se mide, y este lo escribe en segundo plano.
+     *
+     * @param runner     ejecutor de mediciones
+     * @param algorithms algoritmos a medir
+     * @param sizes      tamaños de arreglo
+     * @param types      tipos de lista
+     * @param output     ruta del archivo .xlsx
+     * @throws IOException si falla la escritura
+     */
+    private static void exportExcel(BenchmarkRunner runner, List<SortAlgorithm> algorithms, int[] sizes,
+            List<String> types, String output) throws IOException {
+        try (ExcelResultExporter exporter = new ExcelResultExporter(Paths.get(output))) {
+            runner.run(algorithms, sizes, types, exporter::submit);
+        }
+    }
+
+    /**
+     * Separa una lista de valores por comas, ignorando espacios alrededor.
+     *
+     * @param value texto con valores separados por comas
+     * @return los valores no vacíos
+     */
+    private static List<String> splitList(String value) {
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+    }
+}
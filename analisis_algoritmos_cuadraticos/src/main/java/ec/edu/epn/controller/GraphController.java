@@ -1,13 +1,32 @@
 package ec.edu.epn.controller;
 
+import ec.edu.epn.model.HybridSort;
+import ec.edu.epn.model.benchmark.ComplexityFit;
+import ec.edu.epn.model.benchmark.ExcelResultExporter;
+import ec.edu.epn.model.benchmark.RunCosts;
+import ec.edu.epn.model.benchmark.RunPhase;
+import ec.edu.epn.model.benchmark.SampleStatistics;
+import ec.edu.epn.model.benchmark.SweepCurve;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.chart.*;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
 import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import javafx.scene.Node;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Controlador para la visualización de gráficos comparativos de rendimiento.
  * Muestra comparaciones entre los tiempos de ejecución teóricos y reales
@@ -21,13 +40,31 @@ public class GraphController {
         private static final String BAR_COLOR = "#9b59b6";
         private static final String WHITE_TEXT = "#ffffff";
 
+        /** Colores asignados a las series, en el orden de los algoritmos */
+        private static final String[] SERIES_COLORS = { PRIMARY_COLOR, SECONDARY_COLOR, BAR_COLOR,
+                        "#e67e22", "#1abc9c", "#e74c3c", "#f1c40f" };
+
+        /** Número de puntos con que se dibuja cada curva teórica calibrada */
+        private static final int THEORY_POINTS = 40;
+
+        /** Color de los puntos medidos sin alcanzar el régimen estable */
+        private static final String UNSTEADY_COLOR = "#7f8c8d";
+
+        /**
+         * Datos de un punto medido que se muestran al pasar el ratón.
+         *
+         * @param description Resumen estadístico y fases del punto
+         * @param steady      Si el punto se midió en régimen estable
+         */
+        private record PointInfo(String description, boolean steady) {
+        }
+
         /**
          * Muestra la comparación de rendimiento entre algoritmos de ordenamiento.
          * 
          * @param stage          Escenario donde se mostrará el gráfico
-         * @param bubbleTime     Tiempo de ejecución de Bubble Sort (ms)
-         * @param selectionTime  Tiempo de ejecución de Selection Sort (ms)
-         * @param insertionTime  Tiempo de ejecución de Insertion Sort (ms)
+         * @param curves         Curvas medidas por el barrido, una por algoritmo
+         * @param listType       Tipo de lista con el que se midieron las curvas
          * @param primaryColor   Color primario para el gráfico
          * @param secondaryColor Color secundario para el gráfico
          * @param barColor       Color para las barras del gráfico
@@ -35,83 +72,164 @@ public class GraphController {
          * @param lightText      Color de texto claro
          */
         @SuppressWarnings("exports")
-        public void showPerformanceComparison(Stage stage, long bubbleTime, long selectionTime, long insertionTime,
+        public void showPerformanceComparison(Stage stage, List<SweepCurve> curves, String listType,
                         String primaryColor, String secondaryColor, String barColor,
                         String darkBg, String lightText) {
-                // Asegurar tiempos mínimos de 1ms para evitar divisiones por cero
-                bubbleTime = Math.max(bubbleTime, 1);
-                selectionTime = Math.max(selectionTime, 1);
-                insertionTime = Math.max(insertionTime, 1);
-
                 Stage lineStage = new Stage();
-                showLineChart(lineStage, darkBg, WHITE_TEXT, bubbleTime, selectionTime, insertionTime);
+                showLineChart(lineStage, darkBg, WHITE_TEXT, curves, listType);
         }
 
         /**
          * Crea y muestra un gráfico de líneas comparando tiempos teóricos y reales.
          * 
-         * @param stage         Escenario para el gráfico
-         * @param darkBg        Color de fondo oscuro
-         * @param textColor     Color del texto
-         * @param bubbleTime    Tiempo real de Bubble Sort
-         * @param selectionTime Tiempo real de Selection Sort
-         * @param insertionTime Tiempo real de Insertion Sort
+         * @param stage     Escenario para el gráfico
+         * @param darkBg    Color de fondo oscuro
+         * @param textColor Color del texto
+         * @param curves    Curvas medidas, una por algoritmo
+         * @param listType  Tipo de lista de las curvas medidas
          */
-        @SuppressWarnings("unchecked")
-        private void showLineChart(Stage stage, String darkBg, String textColor,
-                        long bubbleTime, long selectionTime, long insertionTime) {
+        private void showLineChart(Stage stage, String darkBg, String textColor, List<SweepCurve> curves,
+                        String listType) {
                 stage.setTitle("Tendencia de Rendimiento");
 
-                // Configuración del eje X
-                NumberAxis xAxis = createXAxis();
+                int maxSize = 0;
+                double maxTime = 0;
+                for (SweepCurve curve : curves) {
+                        for (int i = 0; i < curve.size(); i++) {
+                                maxSize = Math.max(maxSize, curve.getSize(i));
+                                maxTime = Math.max(maxTime, curve.getMedianMillis(i));
+                        }
+                }
 
-                // Configuración del eje Y
-                NumberAxis yAxis = createYAxis(bubbleTime, selectionTime, insertionTime);
+                // Configuración de los ejes
+                NumberAxis xAxis = createXAxis(maxSize);
+                NumberAxis yAxis = createYAxis(maxTime);
 
                 // Crear el gráfico de líneas
                 LineChart<Number, Number> lineChart = configureLineChart(xAxis, yAxis, darkBg);
 
-                // Crear series de datos teóricas y reales
-                XYChart.Series<Number, Number> bubbleTheory = createSeries("Bubble Sort (Teórico)");
-                XYChart.Series<Number, Number> selectionTheory = createSeries("Selection Sort (Teórico)");
-                XYChart.Series<Number, Number> insertionTheory = createSeries("Insertion Sort (Teórico)");
-
-                // Generar datos teóricos (complejidad O(n^2))
-                generateTheoreticalData(bubbleTheory, selectionTheory, insertionTheory);
-
-                // Crear series de datos reales
-                XYChart.Series<Number, Number> bubbleReal = createSeries("Bubble Sort (Real)");
-                XYChart.Series<Number, Number> selectionReal = createSeries("Selection Sort (Real)");
-                XYChart.Series<Number, Number> insertionReal = createSeries("Insertion Sort (Real)");
-
-                // Añadir datos reales (para tamaño de datos 50)
-                addRealData(bubbleTime, selectionTime, insertionTime, bubbleReal, selectionReal, insertionReal);
+                List<XYChart.Series<Number, Number>> theorySeries = new ArrayList<>();
+                List<XYChart.Series<Number, Number>> realSeries = new ArrayList<>();
+                StringBuilder fitSummary = new StringBuilder();
+                for (SweepCurve curve : curves) {
+                        // Modelo teórico calibrado con las mediciones de esta máquina
+                        ComplexityFit fit = ComplexityFit.fit(curve, listType);
+                        fitSummary.append(fit.summary()).append('\n');
+                        if ("Hybrid Sort".equals(curve.getAlgorithmName())) {
+                                fitSummary.append(String.format("  Insertion Sort hasta n = %d (calibrado en este equipo)%n",
+                                                HybridSort.calibratedThreshold()));
+                        }
+                        XYChart.Series<Number, Number> theory = createSeries(curve.getAlgorithmName() + " (Teórico)");
+                        generateTheoreticalData(curve, fit, theory);
+                        theorySeries.add(theory);
+
+                        // Curva real completa del barrido
+                        XYChart.Series<Number, Number> real = createSeries(curve.getAlgorithmName() + " (Real)");
+                        addRealData(curve, real);
+                        realSeries.add(real);
+                }
 
                 // Añadir todas las series al gráfico
-                lineChart.getData().addAll(
-                                bubbleTheory, selectionTheory, insertionTheory,
-                                bubbleReal, selectionReal, insertionReal);
+                lineChart.getData().addAll(theorySeries);
+                lineChart.getData().addAll(realSeries);
 
                 // Aplicar estilos a los elementos del gráfico
                 Platform.runLater(() -> {
-                        applyChartStyles(lineChart, xAxis, yAxis, bubbleTheory, selectionTheory, insertionTheory,
-                                        bubbleReal, selectionReal, insertionReal);
+                        applyChartStyles(lineChart, xAxis, yAxis, theorySeries, realSeries);
                 });
 
+                fitSummary.append("Puntos grises: medidos sin régimen estable (el JIT seguía compilando o se agotó el tiempo)");
+
                 // Configurar y mostrar la escena
+                Label fitLabel = new Label(fitSummary.toString().trim());
+                fitLabel.setStyle("-fx-text-fill: " + textColor + "; -fx-font-family: monospace; -fx-font-size: 11px;");
+                HBox.setHgrow(fitLabel, Priority.ALWAYS);
+                fitLabel.setMaxWidth(Double.MAX_VALUE);
+                Button exportBtn = new Button("Exportar a Excel");
+                exportBtn.setStyle("-fx-background-color: " + PRIMARY_COLOR + "; -fx-text-fill: " + WHITE_TEXT + ";");
+                exportBtn.setOnAction(e -> exportToExcel(stage, exportBtn, curves, listType));
+                HBox bottom = new HBox(10, fitLabel, exportBtn);
                 BorderPane root = new BorderPane(lineChart);
+                root.setBottom(bottom);
                 root.setStyle("-fx-background-color: " + darkBg + "; -fx-padding: 20;");
-                Scene scene = new Scene(root, 800, 600);
+                Scene scene = new Scene(root, 1000, 700);
                 stage.setScene(scene);
                 stage.show();
         }
 
+        /**
+         * Pide un archivo y exporta a Excel todas las muestras del barrido. La
+         * escritura se hace fuera del hilo de la interfaz.
+         *
+         * @param stage     Ventana dueña del diálogo
+         * @param exportBtn Botón que inició la exportación
+         * @param curves    Curvas medidas a exportar
+         * @param listType  Tipo de lista de las curvas
+         */
+        private void exportToExcel(Stage stage, Button exportBtn, List<SweepCurve> curves, String listType) {
+                FileChooser chooser = new FileChooser();
+                chooser.setTitle("Exportar mediciones");
+                chooser.setInitialFileName("mediciones.xlsx");
+                chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("Libro de Excel", "*.xlsx"));
+                File file = chooser.showSaveDialog(stage);
+                if (file == null) {
+                        return;
+                }
+
+                exportBtn.setDisable(true);
+                exportBtn.setText("Exportando...");
+                Thread exportThread = new Thread(() -> {
+                        String status;
+                        String error;
+                        try (ExcelResultExporter exporter = new ExcelResultExporter(file.toPath())) {
+                                for (SweepCurve curve : curves) {
+                                        curve.toResults(listType).forEach(exporter::submit);
+                                }
+                                status = "Exportado";
+                                error = null;
+                        } catch (IOException | IllegalStateException ex) {
+                                status = "Error al exportar";
+                                error = describeError(ex);
+                                System.err.println("Error al exportar a Excel: " + error);
+                        }
+                        String finalStatus = status;
+                        String finalError = error;
+                        Platform.runLater(() -> {
+                                exportBtn.setText(finalStatus);
+                                exportBtn.setDisable(false);
+                                if (finalError != null) {
+                                        Alert alert = new Alert(Alert.AlertType.ERROR);
+                                        alert.setTitle("Error");
+                                        alert.setHeaderText("No se pudo exportar a Excel");
+                                        alert.setContentText(finalError);
+                                        alert.show();
+                                }
+                        });
+                }, "excel-export-ui");
+                exportThread.setDaemon(true);
+                exportThread.start();
+        }
+
+        /**
+         * Describe una excepción con su mensaje y el de sus causas.
+         * 
+         * @param ex Excepción a describir
+         * @return Texto con la cadena de mensajes
+         */
+        private static String describeError(Throwable ex) {
+                StringBuilder text = new StringBuilder(String.valueOf(ex.getMessage()));
+                for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause())
+                        text.append(": ").append(cause);
+                return text.toString();
+        }
+
         /**
          * Crea y configura el eje X del gráfico.
          * 
+         * @param maxSize Tamaño máximo medido
          * @return NumberAxis configurado
          */
-        private NumberAxis createXAxis() {
+        private NumberAxis createXAxis(int maxSize) {
                 NumberAxis xAxis = new NumberAxis();
                 xAxis.setLabel("Tamaño de datos");
                 xAxis.setStyle(
@@ -119,8 +237,8 @@ public class GraphController {
                                                 "-fx-axis-label-fill: " + WHITE_TEXT + ";");
                 xAxis.setAutoRanging(false);
                 xAxis.setLowerBound(0);
-                xAxis.setUpperBound(100);
-                xAxis.setTickUnit(10);
+                xAxis.setUpperBound(Math.max(maxSize, 1));
+                xAxis.setTickUnit(xAxis.getUpperBound() / 10);
                 xAxis.setTickMarkVisible(true);
                 xAxis.setMinorTickVisible(false);
                 xAxis.setTickLength(10);
@@ -130,12 +248,10 @@ public class GraphController {
         /**
          * Crea y configura el eje Y del gráfico.
          * 
-         * @param bubbleTime    Tiempo de Bubble Sort
-         * @param selectionTime Tiempo de Selection Sort
-         * @param insertionTime Tiempo de Insertion Sort
+         * @param maxTime Tiempo máximo medido (ms)
          * @return NumberAxis configurado
          */
-        private NumberAxis createYAxis(long bubbleTime, long selectionTime, long insertionTime) {
+        private NumberAxis createYAxis(double maxTime) {
                 NumberAxis yAxis = new NumberAxis();
                 yAxis.setLabel("Tiempo (ms)");
                 yAxis.setStyle(
@@ -143,10 +259,7 @@ public class GraphController {
                                                 "-fx-axis-label-fill: " + WHITE_TEXT + ";");
                 yAxis.setAutoRanging(false);
                 yAxis.setLowerBound(0);
-
-                long maxTime = Math.max(Math.max(bubbleTime, selectionTime), insertionTime);
-                double theoreticalMax = 100 * 100 * 0.02;
-                yAxis.setUpperBound(Math.max(maxTime, theoreticalMax) * 1.2);
+                yAxis.setUpperBound(Math.max(maxTime, 0.001) * 1.2);
                 yAxis.setTickUnit(yAxis.getUpperBound() / 10);
                 yAxis.setTickMarkVisible(true);
                 yAxis.setMinorTickVisible(false);
@@ -189,83 +302,130 @@ public class GraphController {
         }
 
         /**
-         * Genera datos teóricos para las series.
+         * Genera datos teóricos para una serie evaluando el modelo calibrado
+         * c·n² + b·n + a entre el menor y el mayor tamaño medido.
          * 
-         * @param bubbleTheory    Serie para Bubble Sort teórico
-         * @param selectionTheory Serie para Selection Sort teórico
-         * @param insertionTheory Serie para Insertion Sort teórico
+         * @param curve  Curva medida del algoritmo
+         * @param fit    Ajuste calculado a partir de la curva
+         * @param theory Serie teórica a rellenar
          */
-        private void generateTheoreticalData(XYChart.Series<Number, Number> bubbleTheory,
-                        XYChart.Series<Number, Number> selectionTheory,
-                        XYChart.Series<Number, Number> insertionTheory) {
-                for (int n = 10; n <= 100; n += 5) {
-                        bubbleTheory.getData().add(new XYChart.Data<>(n, n * n * 0.02));
-                        selectionTheory.getData().add(new XYChart.Data<>(n, n * n * 0.017));
-                        insertionTheory.getData().add(new XYChart.Data<>(n, n * n * 0.015));
+        private void generateTheoreticalData(SweepCurve curve, ComplexityFit fit,
+                        XYChart.Series<Number, Number> theory) {
+                if (curve.size() == 0) {
+                        return;
                 }
+                double minSize = curve.getSize(0);
+                double maxSize = curve.getSize(curve.size() - 1);
+                for (int i = 0; i <= THEORY_POINTS; i++) {
+                        double n = minSize + (maxSize - minSize) * i / THEORY_POINTS;
+                        double predicted = fit.predictMillis(n);
+                        if (!Double.isNaN(predicted)) {
+                                theory.getData().add(new XYChart.Data<>(n, predicted));
+                        }
+                }
+        }
+
+        /**
+         * Añade la curva medida completa a una serie real, con la mediana de
+         * las ejecuciones estables de cada punto. El resumen del punto se
+         * guarda como valor extra para mostrarlo al pasar el ratón.
+         * 
+         * @param curve Curva medida del algoritmo
+         * @param real  Serie real a rellenar
+         */
+        private void addRealData(SweepCurve curve, XYChart.Series<Number, Number> real) {
+                for (int i = 0; i < curve.size(); i++) {
+                        XYChart.Data<Number, Number> point = new XYChart.Data<>(curve.getSize(i),
+                                        curve.getMedianMillis(i));
+                        point.setExtraValue(new PointInfo(describe(curve, i), curve.isSteady(i)));
+                        real.getData().add(point);
+                }
+        }
+
+        /**
+         * Describe el resumen estadístico, las fases y los costos de memoria de
+         * un punto medido.
+         * 
+         * @param curve Curva medida del algoritmo
+         * @param index Índice del punto
+         * @return Texto para el tooltip del punto
+         */
+        private String describe(SweepCurve curve, int index) {
+                SampleStatistics stats = curve.getStatistics(index);
+                return String.format("n = %d (%s)%nMediana: %.4f ms%nMedia: %.4f ms (IC 95%%: %.4f–%.4f)%n"
+                                + "P90: %.4f ms%nP99: %.4f ms%nDesv. estándar: %.4f ms%n"
+                                + "Muestras: %d (%d atípicas descartadas)%n"
+                                + "Ejecuciones: %d %s, %d %s, %d %s%nPrimera ejecución: %.4f ms",
+                                curve.getSize(index), curve.isSteady(index) ? "régimen estable" : "sin régimen estable",
+                                stats.getMedianMillis(), stats.getMeanMillis(), stats.getCiLowMillis(),
+                                stats.getCiHighMillis(), stats.getP90Millis(), stats.getP99Millis(),
+                                stats.getStdDevMillis(), stats.getCount(), stats.getOutliers(),
+                                curve.countRuns(index, RunPhase.COLD), RunPhase.COLD.getLabel().toLowerCase(),
+                                curve.countRuns(index, RunPhase.WARMING), RunPhase.WARMING.getLabel().toLowerCase(),
+                                curve.countRuns(index, RunPhase.STEADY), RunPhase.STEADY.getLabel().toLowerCase(),
+                                curve.getFirstRunMillis(index))
+                                + describeCosts(curve.getCosts(index));
         }
 
         /**
-         * Añade datos reales a las series.
+         * Describe la memoria reservada y las recolecciones de un punto.
          * 
-         * @param bubbleTime    Tiempo real de Bubble Sort
-         * @param selectionTime Tiempo real de Selection Sort
-         * @param insertionTime Tiempo real de Insertion Sort
-         * @param bubbleReal    Serie para Bubble Sort real
-         * @param selectionReal Serie para Selection Sort real
-         * @param insertionReal Serie para Insertion Sort real
+         * @param costs Costos de las ejecuciones del punto
+         * @return Líneas para el tooltip, o un texto vacío si no se midieron
          */
-        private void addRealData(long bubbleTime, long selectionTime, long insertionTime,
-                        XYChart.Series<Number, Number> bubbleReal,
-                        XYChart.Series<Number, Number> selectionReal,
-                        XYChart.Series<Number, Number> insertionReal) {
-                bubbleTime = Math.max(bubbleTime, 1);
-                selectionTime = Math.max(selectionTime, 1);
-                insertionTime = Math.max(insertionTime, 1);
-
-                bubbleReal.getData().add(new XYChart.Data<>(50, bubbleTime));
-                selectionReal.getData().add(new XYChart.Data<>(50, selectionTime));
-                insertionReal.getData().add(new XYChart.Data<>(50, insertionTime));
+        private String describeCosts(RunCosts costs) {
+                if (costs == null) {
+                        return "";
+                }
+                String allocated = costs.getMeanAllocatedBytes() < 0 ? "no disponible"
+                                : String.format("%.0f bytes por ejecución", costs.getMeanAllocatedBytes());
+                return String.format("%nMemoria: %s%nEjecuciones con GC: %d (fuera del resumen)", allocated,
+                                costs.countGcOverlaps());
         }
 
         /**
          * Aplica estilos a los elementos del gráfico.
          * 
-         * @param lineChart       Gráfico de líneas
-         * @param xAxis           Eje X
-         * @param yAxis           Eje Y
-         * @param bubbleTheory    Serie teórica Bubble
-         * @param selectionTheory Serie teórica Selection
-         * @param insertionTheory Serie teórica Insertion
-         * @param bubbleReal      Serie real Bubble
-         * @param selectionReal   Serie real Selection
-         * @param insertionReal   Serie real Insertion
+         * @param lineChart    Gráfico de líneas
+         * @param xAxis        Eje X
+         * @param yAxis        Eje Y
+         * @param theorySeries Series teóricas, en el orden de los algoritmos
+         * @param realSeries   Series reales, en el orden de los algoritmos
          */
         private void applyChartStyles(LineChart<Number, Number> lineChart, NumberAxis xAxis, NumberAxis yAxis,
-                        XYChart.Series<Number, Number> bubbleTheory,
-                        XYChart.Series<Number, Number> selectionTheory,
-                        XYChart.Series<Number, Number> insertionTheory,
-                        XYChart.Series<Number, Number> bubbleReal,
-                        XYChart.Series<Number, Number> selectionReal,
-                        XYChart.Series<Number, Number> insertionReal) {
-                // Estilo para las líneas teóricas
-                if (bubbleTheory.getNode() != null) {
-                        bubbleTheory.getNode()
-                                        .setStyle("-fx-stroke: " + PRIMARY_COLOR + "; -fx-stroke-width: 2px;");
-                }
-                if (selectionTheory.getNode() != null) {
-                        selectionTheory.getNode().setStyle(
-                                        "-fx-stroke: " + SECONDARY_COLOR + "; -fx-stroke-width: 2px;");
-                }
-                if (insertionTheory.getNode() != null) {
-                        insertionTheory.getNode()
-                                        .setStyle("-fx-stroke: " + BAR_COLOR + "; -fx-stroke-width: 2px;");
-                }
+                        List<XYChart.Series<Number, Number>> theorySeries,
+                        List<XYChart.Series<Number, Number>> realSeries) {
+                for (int i = 0; i < theorySeries.size(); i++) {
+                        String color = SERIES_COLORS[i % SERIES_COLORS.length];
+
+                        // Estilo para las líneas teóricas
+                        XYChart.Series<Number, Number> theory = theorySeries.get(i);
+                        if (theory.getNode() != null) {
+                                theory.getNode().setStyle("-fx-stroke: " + color
+                                                + "; -fx-stroke-width: 2px; -fx-stroke-dash-array: 6 4;");
+                        }
+                        for (XYChart.Data<Number, Number> data : theory.getData()) {
+                                if (data.getNode() != null) {
+                                        data.getNode().setVisible(false);
+                                }
+                        }
 
-                // Estilo para los puntos reales
-                setNodeStyle(bubbleReal, PRIMARY_COLOR);
-                setNodeStyle(selectionReal, SECONDARY_COLOR);
-                setNodeStyle(insertionReal, BAR_COLOR);
+                        // Estilo para las curvas y puntos reales
+                        XYChart.Series<Number, Number> real = realSeries.get(i);
+                        if (real.getNode() != null) {
+                                real.getNode().setStyle("-fx-stroke: " + color + "; -fx-stroke-width: 2px;");
+                        }
+                        setNodeStyle(real, color);
+                        for (XYChart.Data<Number, Number> data : real.getData()) {
+                                if (data.getNode() != null && data.getExtraValue() instanceof PointInfo info) {
+                                        Tooltip.install(data.getNode(), new Tooltip(info.description()));
+                                        if (!info.steady()) {
+                                                data.getNode().setStyle(data.getNode().getStyle().replace(color,
+                                                                UNSTEADY_COLOR));
+                                        }
+                                }
+                        }
+                }
 
                 // Estilo para los ejes y título
                 styleChartElements(lineChart, xAxis, yAxis);
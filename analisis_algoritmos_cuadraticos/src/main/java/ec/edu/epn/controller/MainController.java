@@ -1,6 +1,13 @@
 package ec.edu.epn.controller;
 
 import ec.edu.epn.model.*;
+import ec.edu.epn.model.benchmark.Measurement;
+import ec.edu.epn.model.benchmark.MeasurementEngine;
+import ec.edu.epn.model.benchmark.SampleStatistics;
+import ec.edu.epn.model.benchmark.ScalingSweep;
+import ec.edu.epn.model.benchmark.SweepCurve;
+import ec.edu.epn.model.monitoring.SortEvents;
+import ec.edu.epn.view.BarChartCanvas;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.collections.FXCollections;
@@ -9,16 +16,10 @@ import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Font;
-import javafx.scene.text.Text;
 import javafx.stage.Stage;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Clase principal que controla la aplicación de visualización de algoritmos de
@@ -29,9 +30,37 @@ import java.util.Random;
 public class MainController extends Application {
 
     // CONSTANTES DE CONFIGURACIÓN
-    /** Número de barras a mostrar en la visualización */
+    /** Número de barras a mostrar en la visualización por defecto */
     private static final int NUM_BARS = 50;
 
+    /** Tamaños de lista disponibles en la visualización */
+    private static final Integer[] SIZE_OPTIONS = { NUM_BARS, 100, 500, 1_000, 10_000, 100_000, 250_000 };
+
+    /** Máximo de eventos grabados para la animación */
+    private static final int MAX_TRACE_EVENTS = 5_000_000;
+
+    /**
+     * Mayor tamaño ofrecido para los algoritmos cuadráticos: hacen del orden
+     * de n² eventos, que por encima de unos 2 000 elementos ya no caben en
+     * {@link #MAX_TRACE_EVENTS}. Solo Hybrid Sort usa todos los tamaños.
+     */
+    private static final int MAX_QUADRATIC_SIZE = 1_000;
+
+    // Configuración del barrido de escalabilidad de "Comparar Tiempos"
+    private static final int SWEEP_MIN_SIZE = 16;
+    private static final int SWEEP_MAX_SIZE = 262_144;
+    private static final double SWEEP_GROWTH = 2.0;
+    private static final int SWEEP_MAX_WARMUP_RUNS = 2_000;
+    private static final int SWEEP_MIN_SAMPLES = 3;
+    private static final int SWEEP_MAX_SAMPLES = 15;
+    private static final double SWEEP_BUDGET_MS = 1_000;
+    private static final double SWEEP_TIME_LIMIT_MS = 500;
+
+    // Medición del tiempo real del ordenamiento animado
+    private static final int SORT_MAX_WARMUP_RUNS = 500;
+    private static final int SORT_MAX_SAMPLES = 30;
+    private static final double SORT_BUDGET_MS = 300;
+
     // Constantes de colores para la interfaz
     private final String PRIMARY_COLOR = "#3498db";
     private final String SECONDARY_COLOR = "#2ecc71";
@@ -43,23 +72,23 @@ public class MainController extends Application {
 
     // COMPONENTES DE LA INTERFAZ
     private int[] data; // Datos a ordenar
-    private RadioButton bubbleSortRadio;
-    private RadioButton selectionSortRadio;
-    private RadioButton insertionSortRadio;
+    private String dataShape; // Tipo de lista de los datos
+    private ToggleGroup algorithmToggleGroup; // Un RadioButton por algoritmo registrado
     private ChoiceBox<String> listTypeChoiceBox;
     private AnchorPane visualizationPane;
     private Slider speedSlider;
-    private List<Rectangle> bars = new ArrayList<>(); // Rectángulos que representan los datos
-    private List<Text> valueLabels = new ArrayList<>(); // Etiquetas de valores
-    private boolean running = false; // Estado del ordenamiento
-    private Timer timer = new Timer(); // Temporizador para medir el rendimiento
+    private ChoiceBox<Integer> sizeChoiceBox;
+    private BarChartCanvas barCanvas; // Lienzo que dibuja las barras
+    private boolean running = false; // Estado del ordenamiento (solo hilo de JavaFX)
+    private TraceAnimator animator; // Reproducción en curso, si la hay
+    private volatile int sortGeneration = 0; // Ordenamiento en curso; solo lo cambia el hilo de JavaFX
+    private volatile int comparisonGeneration = 0; // Comparación en curso; solo lo cambia el hilo de JavaFX
+    private final MeasurementEngine sortEngine = new MeasurementEngine(SORT_MAX_WARMUP_RUNS, 1, SORT_MAX_SAMPLES,
+            SORT_BUDGET_MS); // Motor que mide el rendimiento
     private Button startSortBtn;
+    private Button compareBtn;
     private Label timeLabel; // Label para mostrar el tiempo de ejecución
-
-    // ALGORITMOS DE ORDENAMIENTO
-    private final SortAlgorithm bubbleSort = new BubbleSort();
-    private final SortAlgorithm selectionSort = new SelectionSort();
-    private final SortAlgorithm insertionSort = new InsertionSort();
+    private Label operationsLabel; // Label para mostrar el conteo de operaciones
 
     /**
      * Método principal de inicio de la aplicación JavaFX.
@@ -81,6 +110,10 @@ public class MainController extends Application {
         visualizationPane = new AnchorPane();
         visualizationPane.setStyle("-fx-background-color: #34495e;");
         visualizationPane.setPrefSize(900, 550);
+        barCanvas = new BarChartCanvas("#34495e", BAR_COLOR, HIGHLIGHT_COLOR, ACCENT_COLOR, LIGHT_TEXT);
+        barCanvas.widthProperty().bind(visualizationPane.widthProperty());
+        barCanvas.heightProperty().bind(visualizationPane.heightProperty());
+        visualizationPane.getChildren().add(barCanvas);
 
         HBox bottomPane = createBottomPanel();
         bottomPane.setStyle("-fx-background-color: " + DARK_BG + ";");
@@ -99,6 +132,11 @@ public class MainController extends Application {
         primaryStage.setTitle("Algoritmos de Ordenamiento - Animación Visual");
         primaryStage.setMinWidth(1000);
         primaryStage.setMinHeight(700);
+        // Al cerrar la ventana principal se cancela el trabajo en segundo plano
+        primaryStage.setOnHidden(e -> {
+            stopAnimation();
+            comparisonGeneration++;
+        });
         primaryStage.show();
 
         // Generar la lista inicial
@@ -111,12 +149,24 @@ public class MainController extends Application {
      * @return VBox con los controles de configuración
      */
     private VBox createControlPanel() {
-        ToggleGroup algorithmToggleGroup = new ToggleGroup();
+        algorithmToggleGroup = new ToggleGroup();
+
+        // Creación de los radio buttons para selección de algoritmo, separando
+        // las versiones clásicas de las variantes optimizadas
+        VBox classicBox = new VBox(6);
+        VBox optimizedBox = new VBox(6);
+        for (SortAlgorithm algorithm : SortAlgorithms.all()) {
+            boolean first = algorithmToggleGroup.getToggles().isEmpty();
+            RadioButton radio = createStyledRadioButton(algorithm.getName(), algorithmToggleGroup, first);
+            radio.setUserData(algorithm);
+            if (SortAlgorithms.isOptimized(algorithm.getName()))
+                optimizedBox.getChildren().add(radio);
+            else
+                classicBox.getChildren().add(radio);
+        }
 
-        // Creación de los radio buttons para selección de algoritmo
-        bubbleSortRadio = createStyledRadioButton("Bubble Sort", algorithmToggleGroup, true);
-        selectionSortRadio = createStyledRadioButton("Selection Sort", algorithmToggleGroup, false);
-        insertionSortRadio = createStyledRadioButton("Insertion Sort", algorithmToggleGroup, false);
+        Label optimizedLabel = new Label("Variantes optimizadas:");
+        optimizedLabel.setStyle("-fx-text-fill: " + LIGHT_TEXT + "; -fx-font-size: 14;");
 
         // Configuración del ChoiceBox para tipos de lista
         listTypeChoiceBox = new ChoiceBox<>(FXCollections.observableArrayList(
@@ -124,6 +174,20 @@ public class MainController extends Application {
         listTypeChoiceBox.getSelectionModel().selectFirst();
         listTypeChoiceBox.setStyle("-fx-font-size: 14; -fx-text-fill: " + LIGHT_TEXT + ";");
 
+        // Configuración del ChoiceBox para el número de elementos
+        sizeChoiceBox = new ChoiceBox<>(FXCollections.observableArrayList(SIZE_OPTIONS));
+        sizeChoiceBox.getSelectionModel().selectFirst();
+        sizeChoiceBox.setStyle("-fx-font-size: 14; -fx-text-fill: " + LIGHT_TEXT + ";");
+        sizeChoiceBox.setOnAction(e -> {
+            if (!running && sizeChoiceBox.getValue() != null)
+                generateList();
+        });
+        updateSizeOptions();
+        algorithmToggleGroup.selectedToggleProperty().addListener((obs, old, toggle) -> updateSizeOptions());
+
+        Label sizeLabel = new Label("Número de elementos:");
+        sizeLabel.setStyle("-fx-text-fill: " + LIGHT_TEXT + "; -fx-font-size: 14;");
+
         // Configuración del control de velocidad
         speedSlider = new Slider(1, 200, 50);
         speedSlider.setShowTickLabels(true);
@@ -148,12 +212,14 @@ public class MainController extends Application {
         leftPane.getChildren().addAll(
                 algLabel,
                 new Separator(),
-                bubbleSortRadio,
-                selectionSortRadio,
-                insertionSortRadio,
+                classicBox,
+                optimizedLabel,
+                optimizedBox,
                 new Separator(),
                 listTypeLabel,
                 listTypeChoiceBox,
+                sizeLabel,
+                sizeChoiceBox,
                 new Separator(),
                 speedLabel,
                 speedSlider);
@@ -161,6 +227,32 @@ public class MainController extends Application {
         return leftPane;
     }
 
+    /**
+     * Ofrece solo los tamaños que el algoritmo seleccionado puede grabar y
+     * animar; si el tamaño elegido ya no está disponible, se elige el mayor
+     * que sí lo esté.
+     */
+    private void updateSizeOptions() {
+        int limit = maxAnimatedSize(selectedAlgorithm());
+        List<Integer> allowed = Arrays.stream(SIZE_OPTIONS).filter(n -> n <= limit).toList();
+        if (allowed.equals(sizeChoiceBox.getItems()))
+            return;
+        Integer current = sizeChoiceBox.getValue();
+        sizeChoiceBox.getItems().setAll(allowed);
+        sizeChoiceBox.setValue(current != null && current <= limit ? current : allowed.get(allowed.size() - 1));
+    }
+
+    /**
+     * Devuelve el mayor tamaño que se anima con el algoritmo indicado.
+     * 
+     * @param algorithm algoritmo de ordenamiento
+     * @return {@link #MAX_QUADRATIC_SIZE} para los algoritmos cuadráticos, o
+     *         sin límite para Hybrid Sort
+     */
+    private static int maxAnimatedSize(SortAlgorithm algorithm) {
+        return algorithm instanceof HybridSort ? Integer.MAX_VALUE : MAX_QUADRATIC_SIZE;
+    }
+
     /**
      * Crea un RadioButton con estilo personalizado.
      * 
@@ -194,21 +286,21 @@ public class MainController extends Application {
         // Botón para detener el ordenamiento
         Button stopSortBtn = createStyledButton("Detener", ACCENT_COLOR);
         stopSortBtn.setOnAction(e -> {
-            running = false;
+            stopAnimation();
             startSortBtn.setDisable(false);
         });
 
         // Botón para reiniciar la visualización
         Button resetBtn = createStyledButton("Reiniciar", PRIMARY_COLOR);
         resetBtn.setOnAction(e -> {
-            running = false;
+            stopAnimation();
             generateList();
             startSortBtn.setDisable(false);
             updateTimeDisplay(0.0);
         });
 
         // Botón para comparar algoritmos
-        Button compareBtn = createStyledButton("Comparar Tiempos", BAR_COLOR);
+        compareBtn = createStyledButton("Comparar Tiempos", BAR_COLOR);
         compareBtn.setOnAction(e -> showComparisonChart());
 
         // Label para mostrar el tiempo de ejecución
@@ -224,6 +316,10 @@ public class MainController extends Application {
                         "-fx-border-width: 2;" +
                         "-fx-border-radius: 8;");
 
+        // Label para mostrar las operaciones contadas y las predichas
+        operationsLabel = new Label("");
+        operationsLabel.setStyle("-fx-text-fill: " + LIGHT_TEXT + "; -fx-font-size: 12; -fx-padding: 10;");
+
         // Contenedor para los botones
         HBox buttonsContainer = new HBox(15);
         buttonsContainer.getChildren().addAll(startSortBtn, stopSortBtn, resetBtn, compareBtn);
@@ -238,8 +334,8 @@ public class MainController extends Application {
         HBox.setHgrow(spacer, Priority.ALWAYS);
         bottomPane.getChildren().add(spacer);
 
-        // Agregar el label del tiempo
-        bottomPane.getChildren().add(timeLabel);
+        // Agregar los labels de operaciones y tiempo
+        bottomPane.getChildren().addAll(operationsLabel, timeLabel);
 
         return bottomPane;
     }
@@ -296,87 +392,61 @@ public class MainController extends Application {
         });
     }
 
+    /**
+     * Muestra la mediana de una medición con su intervalo de confianza e
+     * indica si se alcanzó el régimen estable del JIT.
+     * 
+     * @param measurement medición del algoritmo
+     */
+    private void updateTimeDisplay(Measurement measurement) {
+        SampleStatistics stats = measurement.getStatistics();
+        long[] warmup = measurement.getWarmupNanos();
+        String phase = measurement.isSteady()
+                ? String.format("estable tras %d ejecuciones", warmup.length)
+                : "sin régimen estable";
+        Platform.runLater(() -> {
+            timeLabel.setText(String.format("Tiempo: %.3f ms (mediana de %d, IC 95%%: %.3f–%.3f ms; %s; en frío: %.3f ms)",
+                    stats.getMedianMillis(), stats.getCount(), stats.getCiLowMillis(), stats.getCiHighMillis(),
+                    phase, measurement.getRunNanos()[0] / 1_000_000.0));
+        });
+    }
+
+    /**
+     * Cuenta las operaciones del algoritmo seleccionado sobre la entrada con
+     * su variante instrumentada y las muestra junto a las predichas, si hay
+     * un modelo para el algoritmo.
+     * 
+     * @param selected algoritmo seleccionado
+     * @param input    copia de la entrada antes de ordenar
+     */
+    private void updateOperationsDisplay(SortAlgorithm selected, int[] input) {
+        String prediction = "";
+        if (OperationPredictor.hasModel(selected.getName())) {
+            OperationCounts predicted = OperationPredictor.predict(selected.getName(), input);
+            prediction = String.format(" (pred. %d)", predicted.getComparisons());
+        }
+        OperationCounts counted = new OperationCounts();
+        ((InstrumentedSortAlgorithm) selected).sort(input, counted);
+
+        String text = String.format("Comparaciones: %d%s | Intercambios: %d | Escrituras: %d",
+                counted.getComparisons(), prediction, counted.getSwaps(), counted.getWrites());
+        Platform.runLater(() -> operationsLabel.setText(text));
+    }
+
     /**
      * Genera una nueva lista de datos según el tipo seleccionado.
      */
     private void generateList() {
-        final int NUM_ELEMENTS = 50;
-        final int MAX_VALUE = 100;
-        data = new int[NUM_ELEMENTS];
-        Random rnd = new Random();
+        final int NUM_ELEMENTS = sizeChoiceBox.getValue();
 
         // Generar datos según el tipo seleccionado
         String selectedType = listTypeChoiceBox.getSelectionModel().getSelectedItem();
-        switch (selectedType) {
-            case "Ordenada":
-                for (int i = 0; i < NUM_ELEMENTS; i++)
-                    data[i] = i + 1;
-                break;
-            case "Inversamente ordenada":
-                for (int i = 0; i < NUM_ELEMENTS; i++)
-                    data[i] = NUM_ELEMENTS - i;
-                break;
-            case "Aleatoria":
-                for (int i = 0; i < NUM_ELEMENTS; i++)
-                    data[i] = rnd.nextInt(MAX_VALUE) + 1;
-                break;
-            case "Casi ordenada":
-                for (int i = 0; i < NUM_ELEMENTS; i++)
-                    data[i] = i + 1;
-                for (int i = 0; i < NUM_ELEMENTS / 10; i++) {
-                    int idx1 = rnd.nextInt(NUM_ELEMENTS);
-                    int idx2 = rnd.nextInt(NUM_ELEMENTS);
-                    int temp = data[idx1];
-                    data[idx1] = data[idx2];
-                    data[idx2] = temp;
-                }
-                break;
-            case "Con duplicados":
-                for (int i = 0; i < NUM_ELEMENTS; i++)
-                    data[i] = rnd.nextInt(MAX_VALUE / 5) + 1;
-                break;
-        }
+        data = new DataGenerator(System.nanoTime()).generate(selectedType, NUM_ELEMENTS);
+        dataShape = selectedType;
 
         // Actualizar la visualización en el hilo de JavaFX
-        Platform.runLater(() -> {
-            visualizationPane.getChildren().clear();
-            bars.clear();
-            valueLabels.clear();
-
-            double width = visualizationPane.getWidth();
-            double height = visualizationPane.getHeight();
-            double marginLeft = 30;
-            double marginRight = 30;
-            double usableWidth = width - marginLeft - marginRight;
-            double barWidth = usableWidth / data.length;
-
-            int maxVal = Arrays.stream(data).max().orElse(1);
-
-            // Crear las barras y etiquetas
-            for (int i = 0; i < data.length; i++) {
-                double barHeight = (data[i] * (height - 50)) / maxVal;
-                double x = marginLeft + i * barWidth;
-                double y = height - barHeight - 20;
-
-                Rectangle rect = new Rectangle(barWidth - 3, barHeight);
-                rect.setX(x);
-                rect.setY(y);
-                rect.setFill(Color.web(BAR_COLOR));
-                rect.setArcWidth(5);
-                rect.setArcHeight(5);
-
-                Text valueLabel = new Text(String.valueOf(data[i]));
-                valueLabel.setFont(Font.font(10));
-                valueLabel.setFill(Color.web(LIGHT_TEXT));
-                valueLabel.setX(x + (barWidth / 2) - 6);
-                valueLabel.setY(y - 5);
-
-                bars.add(rect);
-                valueLabels.add(valueLabel);
-
-                visualizationPane.getChildren().addAll(rect, valueLabel);
-            }
-        });
+        int[] generated = data;
+        Platform.runLater(() -> barCanvas.setData(generated));
     }
 
     /**
@@ -387,7 +457,7 @@ public class MainController extends Application {
             return;
 
         // Validar que se haya seleccionado un algoritmo
-        if (!bubbleSortRadio.isSelected() && !selectionSortRadio.isSelected() && !insertionSortRadio.isSelected()) {
+        if (algorithmToggleGroup.getSelectedToggle() == null) {
             Platform.runLater(() -> {
                 Alert alert = new Alert(Alert.AlertType.WARNING);
                 alert.setTitle("Advertencia");
@@ -398,33 +468,56 @@ public class MainController extends Application {
             return;
         }
 
+        // Los datos pueden venir de un algoritmo que admitía más elementos
+        if (data.length > maxAnimatedSize(selectedAlgorithm()))
+            generateList();
+
         running = true;
         startSortBtn.setDisable(true);
         updateTimeDisplay(0.0);
-
-        // Ejecutar el ordenamiento en un hilo separado
-        new Thread(() -> {
+        operationsLabel.setText("");
+
+        // Ordenar y grabar en un hilo separado sobre una copia de los datos
+        TraceableSortAlgorithm selected = (TraceableSortAlgorithm) selectedAlgorithm();
+        int[] input = data.clone();
+        String shape = dataShape;
+        int generation = ++sortGeneration;
+        Thread worker = new Thread(() -> {
             try {
-                timer.start();
-
-                // Ejecutar el algoritmo seleccionado
-                if (bubbleSortRadio.isSelected()) {
-                    bubbleSortWithAnimation();
-                } else if (selectionSortRadio.isSelected()) {
-                    selectionSortWithAnimation();
-                } else if (insertionSortRadio.isSelected()) {
-                    insertionSortWithAnimation();
-                }
-
-                timer.stop();
+                // Tipo de lista para los eventos de Java Flight Recorder
+                SortEvents.setInputShape(shape);
+                updateOperationsDisplay(selected, input.clone());
+                if (generation != sortGeneration)
+                    return;
+
+                // Tiempo real del algoritmo, sin pausas de animación; la
+                // última ejecución deja el resultado ordenado en sorted
+                int[] sorted = new int[input.length];
+                Measurement measurement = sortEngine.measure(selected, input, sorted);
+                if (generation != sortGeneration)
+                    return;
+                updateTimeDisplay(measurement);
+
+                // Grabar los eventos una sola vez a velocidad completa
+                SortTrace trace = new SortTrace(MAX_TRACE_EVENTS);
+                selected.sort(input, trace);
+
+                // Reproducirlos en el hilo de JavaFX, sincronizados con el refresco
                 Platform.runLater(() -> {
-                    double elapsedTime = timer.getElapsedMilliseconds();
-                    updateTimeDisplay(elapsedTime);
-                    running = false;
-                    startSortBtn.setDisable(false);
+                    // Descartar la traza si el ordenamiento se detuvo o reinició mientras tanto
+                    if (!running || generation != sortGeneration)
+                        return;
+                    animator = new TraceAnimator(trace, data, sorted, barCanvas, this::eventsPerSecond, () -> {
+                        running = false;
+                        startSortBtn.setDisable(false);
+                    }, selected.getName(), shape);
+                    animator.start();
                 });
             } catch (Exception e) {
                 Platform.runLater(() -> {
+                    // Un ordenamiento cancelado no toca el estado del siguiente
+                    if (generation != sortGeneration)
+                        return;
                     running = false;
                     startSortBtn.setDisable(false);
                     Alert alert = new Alert(Alert.AlertType.ERROR);
@@ -434,235 +527,106 @@ public class MainController extends Application {
                     alert.showAndWait();
                 });
             }
-        }).start();
-    }
-
-    /**
-     * Implementación animada del algoritmo Bubble Sort.
-     * 
-     * @throws InterruptedException Si el hilo es interrumpido
-     */
-    private void bubbleSortWithAnimation() throws InterruptedException {
-        int n = data.length;
-        boolean swapped;
-
-        for (int i = 0; i < n - 1 && running; i++) {
-            swapped = false;
-            for (int j = 0; j < n - i - 1 && running; j++) {
-                highlightBars(j, j + 1, HIGHLIGHT_COLOR);
-                Thread.sleep((long) (201 - speedSlider.getValue()));
-
-                if (data[j] > data[j + 1]) {
-                    swapData(j, j + 1);
-                    swapped = true;
-                    Thread.sleep((long) (201 - speedSlider.getValue()));
-                }
-                unhighlightBars(j, j + 1);
-            }
-            if (!swapped)
-                break;
-        }
-    }
-
-    /**
-     * Implementación animada del algoritmo Selection Sort.
-     * 
-     * @throws InterruptedException Si el hilo es interrumpido
-     */
-    private void selectionSortWithAnimation() throws InterruptedException {
-        int n = data.length;
-
-        for (int i = 0; i < n - 1 && running; i++) {
-            int minIdx = i;
-            highlightBar(minIdx, HIGHLIGHT_COLOR);
-
-            for (int j = i + 1; j < n && running; j++) {
-                highlightBar(j, ACCENT_COLOR);
-                Thread.sleep((long) (201 - speedSlider.getValue()));
-
-                if (data[j] < data[minIdx]) {
-                    unhighlightBar(minIdx);
-                    minIdx = j;
-                    highlightBar(minIdx, HIGHLIGHT_COLOR);
-                } else {
-                    unhighlightBar(j);
-                }
-            }
-
-            if (minIdx != i) {
-                swapData(i, minIdx);
-                Thread.sleep((long) (201 - speedSlider.getValue()));
-            }
-            unhighlightBar(minIdx);
-            unhighlightBar(i);
-        }
-    }
-
-    /**
-     * Implementación animada del algoritmo Insertion Sort.
-     * 
-     * @throws InterruptedException Si el hilo es interrumpido
-     */
-    private void insertionSortWithAnimation() throws InterruptedException {
-        int n = data.length;
-
-        for (int i = 1; i < n && running; i++) {
-            int key = data[i];
-            int j = i - 1;
-            highlightBar(i, HIGHLIGHT_COLOR);
-
-            while (j >= 0 && data[j] > key && running) {
-                highlightBar(j, ACCENT_COLOR);
-                Thread.sleep((long) (201 - speedSlider.getValue()));
-
-                data[j + 1] = data[j];
-                updateBarHeight(j + 1);
-                unhighlightBar(j + 1);
-                j--;
-            }
-            data[j + 1] = key;
-            updateBarHeight(j + 1);
-            unhighlightBar(i);
-            if (j + 1 >= 0)
-                unhighlightBar(j + 1);
-            Thread.sleep((long) (201 - speedSlider.getValue()));
-        }
-    }
-
-    /**
-     * Resalta dos barras con un color específico.
-     * 
-     * @param idx1  Índice de la primera barra
-     * @param idx2  Índice de la segunda barra
-     * @param color Color de resaltado
-     */
-    private void highlightBars(int idx1, int idx2, String color) {
-        Platform.runLater(() -> {
-            bars.get(idx1).setFill(Color.web(color));
-            bars.get(idx2).setFill(Color.web(color));
         });
+        // Un hilo que sigue midiendo no debe impedir cerrar la aplicación
+        worker.setDaemon(true);
+        worker.start();
     }
 
     /**
-     * Quita el resaltado de dos barras.
-     * 
-     * @param idx1 Índice de la primera barra
-     * @param idx2 Índice de la segunda barra
+     * Detiene la reproducción en curso, si la hay, y cancela el ordenamiento
+     * que todavía se esté midiendo o grabando: el hilo de trabajo termina al
+     * acabar la fase en curso (conteo, medición o grabación) sin lanzar las
+     * siguientes.
      */
-    private void unhighlightBars(int idx1, int idx2) {
-        Platform.runLater(() -> {
-            bars.get(idx1).setFill(Color.web(BAR_COLOR));
-            bars.get(idx2).setFill(Color.web(BAR_COLOR));
-        });
+    private void stopAnimation() {
+        sortGeneration++;
+        running = false;
+        if (animator != null) {
+            animator.stop();
+            animator = null;
+        }
     }
 
     /**
-     * Resalta una barra con un color específico.
+     * Convierte la posición del control de velocidad en eventos por segundo,
+     * en escala logarítmica: de 5 eventos/s en el mínimo a 5 millones en el
+     * máximo, para animar tanto 50 como cientos de miles de elementos.
      * 
-     * @param idx   Índice de la barra
-     * @param color Color de resaltado
+     * @return eventos de la traza a aplicar por segundo
      */
-    private void highlightBar(int idx, String color) {
-        Platform.runLater(() -> bars.get(idx).setFill(Color.web(color)));
+    private double eventsPerSecond() {
+        double position = (speedSlider.getValue() - speedSlider.getMin())
+                / (speedSlider.getMax() - speedSlider.getMin());
+        return 5 * Math.pow(10, 6 * position);
     }
 
     /**
-     * Quita el resaltado de una barra.
+     * Devuelve el algoritmo seleccionado en el panel de control.
      * 
-     * @param idx Índice de la barra
+     * @return el algoritmo seleccionado
      */
-    private void unhighlightBar(int idx) {
-        Platform.runLater(() -> bars.get(idx).setFill(Color.web(BAR_COLOR)));
+    private SortAlgorithm selectedAlgorithm() {
+        return (SortAlgorithm) algorithmToggleGroup.getSelectedToggle().getUserData();
     }
 
     /**
-     * Intercambia dos elementos en el arreglo y actualiza la visualización.
-     * 
-     * @param i Índice del primer elemento
-     * @param j Índice del segundo elemento
+     * Mide los algoritmos con un barrido de tamaños sobre el tipo de lista
+     * elegido, en un hilo separado, y muestra la comparación gráfica del
+     * rendimiento al terminar. Si se cierra la ventana principal, el barrido
+     * se cancela al acabar la medición en curso y no se muestra nada.
      */
-    private void swapData(int i, int j) {
-        int temp = data[i];
-        data[i] = data[j];
-        data[j] = temp;
-
-        Platform.runLater(() -> {
-            double height1 = bars.get(i).getHeight();
-            double height2 = bars.get(j).getHeight();
-            double y1 = bars.get(i).getY();
-            double y2 = bars.get(j).getY();
-
-            bars.get(i).setHeight(height2);
-            bars.get(j).setHeight(height1);
-            bars.get(i).setY(y2);
-            bars.get(j).setY(y1);
-
-            valueLabels.get(i).setText(String.valueOf(data[i]));
-            valueLabels.get(j).setText(String.valueOf(data[j]));
-            valueLabels.get(i).setY(y2 - 5);
-            valueLabels.get(j).setY(y1 - 5);
-        });
-    }
+    private void showComparisonChart() {
+        compareBtn.setDisable(true);
+        timeLabel.setText("Midiendo...");
+        String listType = listTypeChoiceBox.getSelectionModel().getSelectedItem();
+        int generation = ++comparisonGeneration;
 
-    /**
-     * Actualiza la altura de una barra en la visualización.
-     * 
-     * @param idx Índice de la barra a actualizar
-     */
-    private void updateBarHeight(int idx) {
-        Platform.runLater(() -> {
-            int maxVal = Arrays.stream(data).max().orElse(1);
-            double height = visualizationPane.getHeight();
-            double barHeight = (data[idx] * (height - 50)) / maxVal;
-            double y = height - barHeight - 20;
-
-            bars.get(idx).setHeight(barHeight);
-            bars.get(idx).setY(y);
-            valueLabels.get(idx).setText(String.valueOf(data[idx]));
-            valueLabels.get(idx).setY(y - 5);
+        Thread worker = new Thread(() -> {
+            try {
+                // Barrido geométrico de tamaños sobre el tipo de lista elegido
+                SortEvents.setInputShape(listType);
+                DataGenerator generator = new DataGenerator(System.nanoTime());
+                MeasurementEngine engine = new MeasurementEngine(SWEEP_MAX_WARMUP_RUNS, SWEEP_MIN_SAMPLES,
+                        SWEEP_MAX_SAMPLES, SWEEP_BUDGET_MS);
+                ScalingSweep sweep = new ScalingSweep(SWEEP_MIN_SIZE, SWEEP_MAX_SIZE, SWEEP_GROWTH, engine,
+                        SWEEP_TIME_LIMIT_MS);
+                List<SweepCurve> curves = sweep.run(SortAlgorithms.all(),
+                        n -> generator.generate(listType, n), () -> generation != comparisonGeneration);
+
+                // Mostrar la comparación gráfica
+                Platform.runLater(() -> {
+                    if (generation != comparisonGeneration)
+                        return;
+                    compareBtn.setDisable(false);
+                    updateTimeDisplay(0.0);
+                    Stage stage = new Stage();
+                    GraphController graphController = new GraphController();
+                    graphController.showPerformanceComparison(
+                            stage,
+                            curves,
+                            listType,
+                            PRIMARY_COLOR,
+                            SECONDARY_COLOR,
+                            BAR_COLOR,
+                            DARK_BG,
+                            LIGHT_TEXT);
+                });
+            } catch (Exception e) {
+                Platform.runLater(() -> {
+                    if (generation != comparisonGeneration)
+                        return;
+                    compareBtn.setDisable(false);
+                    Alert alert = new Alert(Alert.AlertType.ERROR);
+                    alert.setTitle("Error");
+                    alert.setHeaderText("Error durante la comparación");
+                    alert.setContentText(e.getMessage());
+                    alert.showAndWait();
+                });
+            }
         });
-    }
-
-    /**
-     * Muestra una comparación gráfica del rendimiento de los algoritmos.
-     */
-    private void showComparisonChart() {
-        // Generar datos de prueba
-        int[] testData = new int[50];
-        Random rnd = new Random();
-        for (int i = 0; i < 50; i++)
-            testData[i] = rnd.nextInt(50) + 1;
-
-        // Medir tiempo de Bubble Sort
-        Timer bubbleTimer = new Timer();
-        bubbleTimer.start();
-        bubbleSort.sort(Arrays.copyOf(testData, testData.length));
-        bubbleTimer.stop();
-
-        // Medir tiempo de Selection Sort
-        Timer selectionTimer = new Timer();
-        selectionTimer.start();
-        selectionSort.sort(Arrays.copyOf(testData, testData.length));
-        selectionTimer.stop();
-
-        // Medir tiempo de Insertion Sort
-        Timer insertionTimer = new Timer();
-        insertionTimer.start();
-        insertionSort.sort(Arrays.copyOf(testData, testData.length));
-        insertionTimer.stop();
-
-        // Mostrar la comparación gráfica
-        Stage stage = new Stage();
-        GraphController graphController = new GraphController();
-        graphController.showPerformanceComparison(
-                stage,
-                (long) bubbleTimer.getElapsedMilliseconds(),
-                (long) selectionTimer.getElapsedMilliseconds(),
-                (long) insertionTimer.getElapsedMilliseconds(),
-                PRIMARY_COLOR,
-                SECONDARY_COLOR,
-                BAR_COLOR,
-                DARK_BG,
-                LIGHT_TEXT);
+        // Un barrido de varios segundos no debe impedir cerrar la aplicación
+        worker.setDaemon(true);
+        worker.start();
     }
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+package ec.edu.epn.controller;
+
+import ec.edu.epn.model.SortTrace;
+import ec.edu.epn.model.monitoring.AnimationFrameEvent;
+import ec.edu.epn.view.BarChartCanvas;
+import javafx.animation.AnimationTimer;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Reproduce un {@link SortTrace} sincronizado con el refresco de pantalla.
+ *
+ * <p>
+ * En cada pulso de JavaFX aplica tantos eventos pendientes como permita la
+ * velocidad configurada (eventos por segundo multiplicados por el tiempo
+ * transcurrido desde el pulso anterior), acumula las columnas modificadas y
+ * redibuja el lienzo una sola vez. No se encola ningún {@code Runnable} por
+ * evento, así que la interfaz sigue respondiendo a cualquier velocidad.
+ * </p>
+ *
+ * <p>
+ * El arreglo reproducido solo se modifica en el hilo de JavaFX: el hilo de
+ * trabajo ordena su propia copia y entrega la traza ya terminada.
+ * </p>
+ *
+ * <p>
+ * Cada pulso se graba como un {@link AnimationFrameEvent} de Java Flight
+ * Recorder, con los eventos y las comparaciones que aplicó.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+final class TraceAnimator extends AnimationTimer {
+
+    /** Tiempo máximo por pulso dedicado a aplicar eventos, en nanosegundos */
+    private static final long FRAME_BUDGET_NANOS = 8_000_000L;
+
+    /** Cada cuántos eventos se consulta el reloj dentro de un pulso */
+    private static final int CLOCK_CHECK_INTERVAL = 4096;
+
+    private final SortTrace trace;
+    private final int[] data;
+    private final int[] sorted;
+    private final BarChartCanvas canvas;
+    private final DoubleSupplier eventsPerSecond;
+    private final Runnable onFinished;
+    private final String algorithmName;
+    private final String inputShape;
+
+    /** Siguiente evento a aplicar */
+    private int cursor;
+
+    /** Marca de tiempo del pulso anterior (0 antes del primero) */
+    private long lastPulse;
+
+    /** Fracción de evento acumulada entre pulsos */
+    private double carry;
+
+    /**
+     * Crea el reproductor.
+     *
+     * @param trace           eventos grabados por el algoritmo
+     * @param data            arreglo que se muestra en el lienzo; se modifica
+     *                        evento a evento
+     * @param sorted          resultado final, que se copia directamente si la
+     *                        traza se truncó
+     * @param canvas          lienzo que dibuja {@code data}
+     * @param eventsPerSecond velocidad de reproducción, consultada en cada pulso
+     * @param onFinished      acción a ejecutar al terminar la reproducción
+     * @param algorithmName   nombre del algoritmo que grabó la traza
+     * @param inputShape      tipo de lista de la entrada
+     */
+    TraceAnimator(SortTrace trace, int[] data, int[] sorted, BarChartCanvas canvas,
+            DoubleSupplier eventsPerSecond, Runnable onFinished, String algorithmName, String inputShape) {
+        this.trace = trace;
+        this.data = data;
+        this.sorted = sorted;
+        this.canvas = canvas;
+        this.eventsPerSecond = eventsPerSecond;
+        this.onFinished = onFinished;
+        this.algorithmName = algorithmName;
+        this.inputShape = inputShape;
+    }
+
+    @Override
+    public void handle(long now) {
+        if (lastPulse == 0) {
+            lastPulse = now;
+            return;
+        }
+        double budget = carry + eventsPerSecond.getAsDouble() * (now - lastPulse) / 1e9;
+        lastPulse = now;
+        long steps = (long) budget;
+        carry = budget - steps;
+
+        AnimationFrameEvent frame = new AnimationFrameEvent();
+        frame.begin();
+        int firstEvent = cursor;
+        long comparisons = 0;
+
+        long end = Math.min(trace.size(), cursor + steps);
+        long deadline = System.nanoTime() + FRAME_BUDGET_NANOS;
+        int lastFirst = -1;
+        int lastSecond = -1;
+        while (cursor < end) {
+            int first = trace.first(cursor);
+            int second = trace.second(cursor);
+            switch (trace.type(cursor)) {
+                case SortTrace.COMPARE:
+                    comparisons++;
+                    lastFirst = first;
+                    lastSecond = second;
+                    break;
+                case SortTrace.SWAP:
+                    int temp = data[first];
+                    data[first] = data[second];
+                    data[second] = temp;
+                    canvas.markDirty(first);
+                    canvas.markDirty(second);
+                    break;
+                case SortTrace.WRITE:
+                    data[first] = second;
+                    canvas.markDirty(first);
+                    break;
+            }
+            cursor++;
+            if ((cursor & (CLOCK_CHECK_INTERVAL - 1)) == 0 && System.nanoTime() > deadline) {
+                // Pulso agotado: se continúa en el siguiente sin acumular retraso
+                carry = 0;
+                break;
+            }
+        }
+
+        if (cursor >= trace.size()) {
+            finish();
+        } else {
+            if (lastFirst >= 0) {
+                canvas.highlight(lastFirst, lastSecond);
+            }
+            canvas.flush();
+        }
+        frame.end();
+        frame.record(algorithmName, data.length, inputShape, comparisons, cursor - firstEvent);
+    }
+
+    /**
+     * Termina la reproducción: completa el resultado si la traza se truncó,
+     * quita el resaltado y avisa al controlador.
+     */
+    private void finish() {
+        stop();
+        if (trace.isTruncated()) {
+            System.arraycopy(sorted, 0, data, 0, data.length);
+            canvas.redrawAll();
+        }
+        canvas.highlight(-1, -1);
+        canvas.flush();
+        onFinished.run();
+    }
+}
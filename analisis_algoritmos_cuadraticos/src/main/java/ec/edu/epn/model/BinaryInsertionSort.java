@@ -0,0 +1,127 @@
+package ec.edu.epn.model;
+
+/**
+ * Variante optimizada de Insertion Sort que busca la posición de inserción
+ * con búsqueda binaria y desplaza el bloque con {@link System#arraycopy}.
+ * 
+ * Las comparaciones bajan a O(n log n); los desplazamientos siguen siendo
+ * O(n^2) en el peor caso, pero se hacen como una copia de memoria en bloque
+ * en lugar de un elemento por iteración. Si el nuevo elemento no es menor que
+ * su vecino izquierdo se deja en su sitio sin buscar, así que una entrada ya
+ * ordenada cuesta n - 1 comparaciones. La búsqueda devuelve la posición
+ * después de los elementos iguales, por lo que el orden es estable.
+ * 
+ * Complejidad temporal: O(n^2) en el peor caso, O(n) cuando el arreglo ya
+ * está ordenado.
+ * 
+ * @author
+ * @version 1.0
+ */
+public class BinaryInsertionSort implements InstrumentedSortAlgorithm, TraceableSortAlgorithm {
+
+    /**
+     * Ordena el arreglo especificado con Insertion Sort binario.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     */
+    @Override
+    public void sort(int[] array) {
+        int n = array.length;
+        for (int i = 1; i < n; i++) {
+            int key = array[i];
+            if (array[i - 1] <= key)
+                continue;
+            // Primera posición en [0, i - 1] con un valor mayor que key
+            int lo = 0;
+            int hi = i - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (array[mid] > key) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            System.arraycopy(array, lo, array, lo + 1, i - lo);
+            array[lo] = key;
+        }
+    }
+
+    /**
+     * Variante instrumentada de {@link #sort(int[])}: realiza las mismas
+     * operaciones y las cuenta. Cada elemento desplazado cuenta como una
+     * escritura.
+     * 
+     * @param array  el arreglo de enteros a ordenar
+     * @param counts contadores donde se suman las operaciones
+     */
+    @Override
+    public void sort(int[] array, OperationCounts counts) {
+        int n = array.length;
+        for (int i = 1; i < n; i++) {
+            int key = array[i];
+            counts.comparisons++;
+            if (array[i - 1] <= key)
+                continue;
+            int lo = 0;
+            int hi = i - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                counts.comparisons++;
+                if (array[mid] > key) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            System.arraycopy(array, lo, array, lo + 1, i - lo);
+            array[lo] = key;
+            counts.writes += i - lo + 1;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que graba cada comparación y escritura
+     * en el registro. El desplazamiento en bloque se graba como una escritura
+     * por elemento, de derecha a izquierda.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     * @param trace registro donde se añaden los eventos
+     */
+    @Override
+    public void sort(int[] array, SortTrace trace) {
+        int n = array.length;
+        for (int i = 1; i < n; i++) {
+            int key = array[i];
+            trace.compare(i - 1, i);
+            if (array[i - 1] <= key)
+                continue;
+            int lo = 0;
+            int hi = i - 1;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                trace.compare(mid, i);
+                if (array[mid] > key) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            for (int k = i - 1; k >= lo; k--)
+                trace.write(k + 1, array[k]);
+            System.arraycopy(array, lo, array, lo + 1, i - lo);
+            array[lo] = key;
+            trace.write(lo, key);
+        }
+    }
+
+    /**
+     * Devuelve el nombre del algoritmo.
+     * 
+     * @return el nombre "Binary Insertion Sort"
+     */
+    @Override
+    public String getName() {
+        return "Binary Insertion Sort";
+    }
+}
@@ -0,0 +1,56 @@
+package ec.edu.epn.model;
+
+/**
+ * Bubble Sort con el bucle interno sin saltos condicionales.
+ * 
+ * En lugar de comparar dos vecinos y saltar al intercambio, cada paso escribe
+ * {@code Math.min} en la posición actual y arrastra {@code Math.max} hacia la
+ * siguiente, operaciones que el JIT traduce a movimientos condicionales. Hace
+ * exactamente las mismas comparaciones que {@link BubbleSort}, pero escribe en
+ * cada paso aunque no haya nada que intercambiar.
+ * 
+ * Con datos aleatorios el {@code if} de {@link BubbleSort} se predice mal
+ * cerca de la mitad de las veces; con una lista ya ordenada se predice
+ * siempre bien. Comparar ambas versiones sobre los distintos tipos de lista
+ * mide el costo de esas predicciones fallidas (ver
+ * {@link ec.edu.epn.model.benchmark.BranchCostComparison}).
+ * 
+ * Complejidad temporal: O(n^2) en todos los casos.
+ * 
+ * @author
+ * @version 1.0
+ */
+public class BranchlessBubbleSort implements SortAlgorithm {
+
+    /**
+     * Ordena el arreglo especificado con Bubble Sort sin saltos.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     */
+    @Override
+    public void sort(int[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int end = n - i - 1;
+            // El mayor visto hasta ahora avanza con la pasada, como en el
+            // intercambio de Bubble Sort, pero sin releerlo del arreglo
+            int max = array[0];
+            for (int j = 0; j < end; j++) {
+                int next = array[j + 1];
+                array[j] = Math.min(max, next);
+                max = Math.max(max, next);
+            }
+            array[end] = max;
+        }
+    }
+
+    /**
+     * Devuelve el nombre del algoritmo.
+     * 
+     * @return el nombre "Bubble Sort (sin saltos)"
+     */
+    @Override
+    public String getName() {
+        return "Bubble Sort (sin saltos)";
+    }
+}
@@ -0,0 +1,58 @@
+package ec.edu.epn.model;
+
+/**
+ * Selection Sort con la búsqueda del mínimo sin saltos condicionales.
+ * 
+ * {@link SelectionSort} actualiza el índice del mínimo dentro de un
+ * {@code if}, que se predice mal cada vez que aparece un nuevo mínimo. Esta
+ * variante calcula una máscara con el signo de la resta (en {@code long} para
+ * que no se desborde) y elige el índice con operaciones de bits y el valor con
+ * {@code Math.min}, de modo que el bucle interno no tiene ningún salto que
+ * dependa de los datos, con independencia de lo que decida el JIT.
+ * 
+ * A diferencia de Bubble Sort, con datos aleatorios un nuevo mínimo aparece
+ * solo unas ln n veces por pasada, así que el salto original casi siempre se
+ * predice bien y esta variante suele ser más lenta: el costo de la cadena de
+ * dependencias que recorre todo el bucle supera al de las pocas predicciones
+ * fallidas que evita.
+ * 
+ * Complejidad temporal: O(n^2) en todos los casos.
+ * 
+ * @author
+ * @version 1.0
+ */
+public class BranchlessSelectionSort implements SortAlgorithm {
+
+    /**
+     * Ordena el arreglo especificado con Selection Sort sin saltos.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     */
+    @Override
+    public void sort(int[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            int min = array[i];
+            for (int j = i + 1; j < n; j++) {
+                int value = array[j];
+                // -1 si value < min, 0 en otro caso
+                int mask = (int) (((long) value - min) >> 63);
+                minIndex = (j & mask) | (minIndex & ~mask);
+                min = Math.min(min, value);
+            }
+            array[minIndex] = array[i];
+            array[i] = min;
+        }
+    }
+
+    /**
+     * Devuelve el nombre del algoritmo.
+     * 
+     * @return el nombre "Selection Sort (sin saltos)"
+     */
+    @Override
+    public String getName() {
+        return "Selection Sort (sin saltos)";
+    }
+}
@@ -1,5 +1,8 @@
 package ec.edu.epn.model;
 
+import ec.edu.epn.model.monitoring.SortEvents;
+import ec.edu.epn.model.monitoring.SortPassEvent;
+
 /**
  * Implementación del algoritmo de ordenamiento Bubble Sort.
  * 
@@ -12,15 +15,23 @@ package ec.edu.epn.model;
  * @author 
  * @version 1.0
  */
-public class BubbleSort implements SortAlgorithm {
+public class BubbleSort
+        implements InstrumentedSortAlgorithm, TraceableSortAlgorithm, PrimitiveSortAlgorithm, KeyedSortAlgorithm,
+        RangeSortAlgorithm {
 
     /**
      * Ordena el arreglo especificado utilizando el algoritmo Bubble Sort.
+     * Si Java Flight Recorder está grabando {@link SortPassEvent}, se usa
+     * {@link #sortRecordingPasses(int[])}.
      * 
      * @param array el arreglo de enteros a ordenar
      */
     @Override
     public void sort(int[] array) {
+        if (SortEvents.isPassRecorded()) {
+            sortRecordingPasses(array);
+            return;
+        }
         int n = array.length;
         for (int i = 0; i < n - 1; i++) {
             for (int j = 0; j < n - i - 1; j++) {
@@ -33,6 +44,224 @@ public class BubbleSort implements SortAlgorithm {
         }
     }
 
+    /**
+     * Variante de {@link #sort(int[])} que graba cada pasada como un
+     * {@link SortPassEvent}.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     */
+    private void sortRecordingPasses(int[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            SortPassEvent pass = new SortPassEvent();
+            pass.begin();
+            for (int j = 0; j < n - i - 1; j++) {
+                if (array[j] > array[j + 1]) {
+                    int temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                }
+            }
+            pass.end();
+            pass.record(getName(), n, i, n - i - 1);
+        }
+    }
+
+    /**
+     * Variante instrumentada de {@link #sort(int[])}: realiza las mismas
+     * operaciones y las cuenta.
+     * 
+     * @param array  el arreglo de enteros a ordenar
+     * @param counts contadores donde se suman las operaciones
+     */
+    @Override
+    public void sort(int[] array, OperationCounts counts) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = 0; j < n - i - 1; j++) {
+                counts.comparisons++;
+                if (array[j] > array[j + 1]) {
+                    int temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                    counts.swaps++;
+                    counts.writes += 2;
+                }
+            }
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que graba cada comparación e
+     * intercambio en el registro.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     * @param trace registro donde se añaden los eventos
+     */
+    @Override
+    public void sort(int[] array, SortTrace trace) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = 0; j < n - i - 1; j++) {
+                trace.compare(j, j + 1);
+                if (array[j] > array[j + 1]) {
+                    int temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                    trace.swap(j, j + 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ordena solo el rango {@code [from, to)} del arreglo.
+     * 
+     * @param array el arreglo de enteros
+     * @param from  primer índice del rango, incluido
+     * @param to    último índice del rango, excluido
+     */
+    @Override
+    public void sort(int[] array, int from, int to) {
+        for (int i = from; i < to - 1; i++) {
+            for (int j = from; j < to - (i - from) - 1; j++) {
+                if (array[j] > array[j + 1]) {
+                    int temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                }
+            }
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code long[]}.
+     * 
+     * @param array el arreglo a ordenar
+     */
+    @Override
+    public void sort(long[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = 0; j < n - i - 1; j++) {
+                if (array[j] > array[j + 1]) {
+                    long temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                }
+            }
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code double[]}. Los {@code NaN}
+     * se apartan al final antes de ordenar y los ceros con signo se ajustan
+     * después, así que el bucle compara con {@code <} y {@code >} igual que
+     * la versión de enteros.
+     * 
+     * @param array el arreglo de reales a ordenar
+     */
+    @Override
+    public void sort(double[] array) {
+        int n = DoubleOrdering.moveNaNsToEnd(array);
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = 0; j < n - i - 1; j++) {
+                if (array[j] > array[j + 1]) {
+                    double temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                }
+            }
+        }
+        DoubleOrdering.orderSignedZeros(array, n);
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code short[]}.
+     * 
+     * @param array el arreglo a ordenar
+     */
+    @Override
+    public void sort(short[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = 0; j < n - i - 1; j++) {
+                if (array[j] > array[j + 1]) {
+                    short temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                }
+            }
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code byte[]}.
+     * 
+     * @param array el arreglo a ordenar
+     */
+    @Override
+    public void sort(byte[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = 0; j < n - i - 1; j++) {
+                if (array[j] > array[j + 1]) {
+                    byte temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                }
+            }
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que ordena claves {@code int} moviendo
+     * los índices paralelos junto con ellas.
+     * 
+     * @param keys    claves a ordenar
+     * @param indices índices que acompañan a cada clave
+     */
+    @Override
+    public void sort(int[] keys, int[] indices) {
+        int n = keys.length;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = 0; j < n - i - 1; j++) {
+                if (keys[j] > keys[j + 1]) {
+                    int temp = keys[j];
+                    keys[j] = keys[j + 1];
+                    keys[j + 1] = temp;
+                    int index = indices[j];
+                    indices[j] = indices[j + 1];
+                    indices[j + 1] = index;
+                }
+            }
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que ordena claves {@code long} moviendo
+     * los índices paralelos junto con ellas.
+     * 
+     * @param keys    claves a ordenar
+     * @param indices índices que acompañan a cada clave
+     */
+    @Override
+    public void sort(long[] keys, int[] indices) {
+        int n = keys.length;
+        for (int i = 0; i < n - 1; i++) {
+            for (int j = 0; j < n - i - 1; j++) {
+                if (keys[j] > keys[j + 1]) {
+                    long temp = keys[j];
+                    keys[j] = keys[j + 1];
+                    keys[j + 1] = temp;
+                    int index = indices[j];
+                    indices[j] = indices[j + 1];
+                    indices[j + 1] = index;
+                }
+            }
+        }
+    }
+
     /**
      * Devuelve el nombre del algoritmo.
      * 
@@ -0,0 +1,140 @@
+package ec.edu.epn.model;
+
+/**
+ * Implementación del algoritmo Cocktail Shaker Sort (Bubble Sort
+ * bidireccional).
+ * 
+ * Alterna una pasada hacia la derecha, que lleva el mayor elemento al final,
+ * con una pasada hacia la izquierda, que lleva el menor al principio. Ambos
+ * extremos se ajustan a la posición del último intercambio, de modo que los
+ * elementos pequeños cerca del final (las "tortugas" de Bubble Sort) llegan a
+ * su lugar en pocas pasadas.
+ * 
+ * Complejidad temporal: O(n^2) en el peor caso, O(n) cuando el arreglo ya
+ * está ordenado.
+ * 
+ * @author
+ * @version 1.0
+ */
+public class CocktailShakerSort implements InstrumentedSortAlgorithm, TraceableSortAlgorithm {
+
+    /**
+     * Ordena el arreglo especificado con Cocktail Shaker Sort.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     */
+    @Override
+    public void sort(int[] array) {
+        int lo = 0;
+        int hi = array.length - 1;
+        while (lo < hi) {
+            int lastSwap = lo;
+            for (int j = lo; j < hi; j++) {
+                if (array[j] > array[j + 1]) {
+                    int temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                    lastSwap = j;
+                }
+            }
+            hi = lastSwap;
+            for (int j = hi; j > lo; j--) {
+                if (array[j - 1] > array[j]) {
+                    int temp = array[j];
+                    array[j] = array[j - 1];
+                    array[j - 1] = temp;
+                    lastSwap = j;
+                }
+            }
+            lo = lastSwap;
+        }
+    }
+
+    /**
+     * Variante instrumentada de {@link #sort(int[])}: realiza las mismas
+     * operaciones y las cuenta.
+     * 
+     * @param array  el arreglo de enteros a ordenar
+     * @param counts contadores donde se suman las operaciones
+     */
+    @Override
+    public void sort(int[] array, OperationCounts counts) {
+        int lo = 0;
+        int hi = array.length - 1;
+        while (lo < hi) {
+            int lastSwap = lo;
+            for (int j = lo; j < hi; j++) {
+                counts.comparisons++;
+                if (array[j] > array[j + 1]) {
+                    int temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                    lastSwap = j;
+                    counts.swaps++;
+                    counts.writes += 2;
+                }
+            }
+            hi = lastSwap;
+            for (int j = hi; j > lo; j--) {
+                counts.comparisons++;
+                if (array[j - 1] > array[j]) {
+                    int temp = array[j];
+                    array[j] = array[j - 1];
+                    array[j - 1] = temp;
+                    lastSwap = j;
+                    counts.swaps++;
+                    counts.writes += 2;
+                }
+            }
+            lo = lastSwap;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que graba cada comparación e
+     * intercambio en el registro.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     * @param trace registro donde se añaden los eventos
+     */
+    @Override
+    public void sort(int[] array, SortTrace trace) {
+        int lo = 0;
+        int hi = array.length - 1;
+        while (lo < hi) {
+            int lastSwap = lo;
+            for (int j = lo; j < hi; j++) {
+                trace.compare(j, j + 1);
+                if (array[j] > array[j + 1]) {
+                    int temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                    lastSwap = j;
+                    trace.swap(j, j + 1);
+                }
+            }
+            hi = lastSwap;
+            for (int j = hi; j > lo; j--) {
+                trace.compare(j - 1, j);
+                if (array[j - 1] > array[j]) {
+                    int temp = array[j];
+                    array[j] = array[j - 1];
+                    array[j - 1] = temp;
+                    lastSwap = j;
+                    trace.swap(j - 1, j);
+                }
+            }
+            lo = lastSwap;
+        }
+    }
+
+    /**
+     * Devuelve el nombre del algoritmo.
+     * 
+     * @return el nombre "Cocktail Shaker Sort"
+     */
+    @Override
+    public String getName() {
+        return "Cocktail Shaker Sort";
+    }
+}
@@ -0,0 +1,193 @@
+package ec.edu.epn.model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Generador reproducible de arreglos de entrada para los tipos de lista de la
+ * interfaz, pensado para tamaños desde unas decenas hasta 10⁸ elementos.
+ *
+ * <p>
+ * El arreglo se llena en paralelo por bloques de {@value #CHUNK_SIZE}
+ * elementos. Cada bloque usa su propio flujo de {@link SplittableRandom},
+ * obtenido de la semilla en un orden fijo, así que el resultado es el mismo
+ * sin importar cuántos hilos participen ni en qué orden terminen.
+ * </p>
+ *
+ * <p>
+ * Además de la semilla se pueden ajustar los dos valores que antes estaban
+ * fijos: la fracción de elementos intercambiados en "Casi ordenada" y el
+ * número de valores distintos en "Con duplicados".
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class DataGenerator {
+
+    /** Tamaño máximo de arreglo admitido */
+    public static final int MAX_SIZE = 100_000_000;
+
+    /** Fracción de intercambios por defecto de "Casi ordenada" (n/10) */
+    public static final double DEFAULT_DISORDER_FRACTION = 0.1;
+
+    /** Elementos por bloque generado en paralelo */
+    static final int CHUNK_SIZE = 1 << 16;
+
+    /** Semilla de todos los flujos aleatorios */
+    private final long seed;
+
+    /** Intercambios de "Casi ordenada" como fracción del tamaño */
+    private final double disorderFraction;
+
+    /** Valores distintos de "Con duplicados", o 0 para usar el valor por defecto */
+    private final int distinctValues;
+
+    /**
+     * Crea un generador con los parámetros por defecto.
+     *
+     * @param seed semilla del generador
+     */
+    public DataGenerator(long seed) {
+        this(seed, DEFAULT_DISORDER_FRACTION, 0);
+    }
+
+    /**
+     * Crea un generador con todos sus parámetros.
+     *
+     * @param seed             semilla del generador
+     * @param disorderFraction intercambios aleatorios de "Casi ordenada" como
+     *                         fracción del tamaño (entre 0 y 1)
+     * @param distinctValues   valores distintos de "Con duplicados"; 0 usa la
+     *                         quinta parte del rango de valores
+     * @throws IllegalArgumentException si algún parámetro está fuera de rango
+     */
+    public DataGenerator(long seed, double disorderFraction, int distinctValues) {
+        if (!(disorderFraction >= 0 && disorderFraction <= 1)) {
+            throw new IllegalArgumentException("Fracción de desorden inválida: " + disorderFraction);
+        }
+        if (distinctValues < 0) {
+            throw new IllegalArgumentException("Número de valores distintos inválido: " + distinctValues);
+        }
+        this.seed = seed;
+        this.disorderFraction = disorderFraction;
+        this.distinctValues = distinctValues;
+    }
+
+    /**
+     * Genera un arreglo con la forma y el tamaño indicados.
+     *
+     * @param listType tipo de lista (ver {@link InputShapes#LIST_TYPES})
+     * @param size     número de elementos, entre 0 y {@link #MAX_SIZE}
+     * @return el arreglo generado
+     * @throws IllegalArgumentException si el tipo de lista o el tamaño no son
+     *                                  válidos
+     */
+    public int[] generate(String listType, int size) {
+        if (size < 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Tamaño fuera de rango: " + size);
+        }
+        int maxValue = Math.max(size * 2, 100);
+        int[] data = new int[size];
+
+        switch (listType) {
+            case "Ordenada":
+                Arrays.parallelSetAll(data, i -> i + 1);
+                break;
+            case "Inversamente ordenada":
+                Arrays.parallelSetAll(data, i -> size - i);
+                break;
+            case "Aleatoria":
+                fillRandom(data, maxValue);
+                break;
+            case "Casi ordenada":
+                Arrays.parallelSetAll(data, i -> i + 1);
+                shuffleSwaps(data, (long) (size * disorderFraction));
+                break;
+            case "Con duplicados":
+                fillRandom(data, distinctValues > 0 ? distinctValues : Math.max(1, maxValue / 5));
+                break;
+            default:
+                throw new IllegalArgumentException("Tipo de lista desconocido: " + listType);
+        }
+        return data;
+    }
+
+    /**
+     * @return la semilla del generador
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return la fracción de intercambios de "Casi ordenada"
+     */
+    public double getDisorderFraction() {
+        return disorderFraction;
+    }
+
+    /**
+     * @return los valores distintos de "Con duplicados", o 0 si se usa el valor
+     *         por defecto
+     */
+    public int getDistinctValues() {
+        return distinctValues;
+    }
+
+    /**
+     * Llena el arreglo con valores uniformes en {@code [1, bound]}, un bloque
+     * por tarea paralela.
+     *
+     * @param data  arreglo a llenar
+     * @param bound valor máximo
+     */
+    private void fillRandom(int[] data, int bound) {
+        int chunks = (data.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        SplittableRandom[] streams = streams(chunks);
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            SplittableRandom rnd = streams[c];
+            int from = c * CHUNK_SIZE;
+            int to = Math.min(data.length, from + CHUNK_SIZE);
+            for (int i = from; i < to; i++)
+                data[i] = rnd.nextInt(bound) + 1;
+        });
+    }
+
+    /**
+     * Intercambia pares de posiciones elegidas al azar en todo el arreglo. Se
+     * hace en un solo hilo porque dos intercambios pueden tocar la misma
+     * posición.
+     *
+     * @param data  arreglo a desordenar
+     * @param swaps número de intercambios
+     */
+    private void shuffleSwaps(int[] data, long swaps) {
+        if (data.length == 0)
+            return;
+        SplittableRandom rnd = new SplittableRandom(seed);
+        for (long s = 0; s < swaps; s++) {
+            int idx1 = rnd.nextInt(data.length);
+            int idx2 = rnd.nextInt(data.length);
+            int temp = data[idx1];
+            data[idx1] = data[idx2];
+            data[idx2] = temp;
+        }
+    }
+
+    /**
+     * Deriva de la semilla un flujo independiente por bloque, siempre en el
+     * mismo orden.
+     *
+     * @param count número de flujos
+     * @return los flujos, uno por bloque
+     */
+    private SplittableRandom[] streams(int count) {
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] streams = new SplittableRandom[count];
+        for (int i = 0; i < count; i++)
+            streams[i] = root.split();
+        return streams;
+    }
+}
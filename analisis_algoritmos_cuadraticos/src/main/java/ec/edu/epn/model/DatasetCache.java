@@ -0,0 +1,244 @@
+package ec.edu.epn.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Almacén en disco de las entradas generadas por un {@link DataGenerator}.
+ *
+ * <p>
+ * Cada arreglo se genera una sola vez y se guarda como enteros de 32 bits en
+ * little-endian, precedidos por una cabecera de {@value #HEADER_BYTES} bytes
+ * con la semilla, la forma y el tamaño. Las lecturas posteriores proyectan el
+ * archivo en memoria con {@link FileChannel#map} en lugar de regenerarlo, así
+ * que distintas ejecuciones y bifurcaciones de JMH ordenan exactamente los
+ * mismos bytes.
+ * </p>
+ *
+ * <p>
+ * Formato de la cabecera (little-endian):
+ * </p>
+ *
+ * <pre>
+ *  0  int     número mágico "SRTD"
+ *  4  int     versión del formato
+ *  8  long    semilla
+ * 16  double  fracción de desorden
+ * 24  int     valores distintos
+ * 28  int     índice del tipo de lista en {@link InputShapes#LIST_TYPES}
+ * 32  int     número de elementos
+ * 36  int     reservado
+ * </pre>
+ *
+ * <p>
+ * Los archivos se escriben primero con un nombre temporal y luego se renombran,
+ * de modo que un proceso nunca lee un archivo a medio escribir por otro. La
+ * escritura usa {@link FileChannel#write(ByteBuffer)} por bloques: solo se
+ * proyectan en memoria los archivos ya guardados, nunca el temporal, que así
+ * no queda abierto por una proyección al renombrarlo.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class DatasetCache {
+
+    /** Bytes de la cabecera; múltiplo de 4 para que los datos queden alineados */
+    public static final int HEADER_BYTES = 40;
+
+    /** "SRTD" en little-endian */
+    private static final int MAGIC = 0x44545253;
+
+    private static final int VERSION = 1;
+
+    /** Enteros que se escriben en cada llamada a {@link FileChannel#write} */
+    private static final int WRITE_CHUNK_INTS = 1 << 18;
+
+    /** Directorio donde se guardan los archivos */
+    private final Path directory;
+
+    /** Generador de las entradas que faltan en disco */
+    private final DataGenerator generator;
+
+    /**
+     * Crea un almacén en el directorio indicado.
+     *
+     * @param directory directorio de los archivos (se crea si no existe)
+     * @param generator generador de las entradas
+     */
+    public DatasetCache(Path directory, DataGenerator generator) {
+        this.directory = directory;
+        this.generator = generator;
+    }
+
+    /**
+     * @return el generador de las entradas
+     */
+    public DataGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Devuelve una copia en memoria de la entrada, generándola y guardándola
+     * en disco si todavía no existe.
+     *
+     * @param listType tipo de lista
+     * @param size     número de elementos
+     * @return el arreglo de entrada
+     * @throws IOException si falla la lectura o escritura del archivo
+     */
+    public int[] load(String listType, int size) throws IOException {
+        IntBuffer mapped = map(listType, size);
+        int[] data = new int[size];
+        mapped.get(data);
+        return data;
+    }
+
+    /**
+     * Proyecta en memoria la entrada guardada en disco, generándola primero si
+     * todavía no existe.
+     *
+     * @param listType tipo de lista
+     * @param size     número de elementos
+     * @return una vista de solo lectura de los datos
+     * @throws IOException              si falla la lectura o escritura, o el
+     *                                  archivo no corresponde a la entrada
+     * @throws IllegalArgumentException si el tipo de lista no existe
+     */
+    public IntBuffer map(String listType, int size) throws IOException {
+        int shape = shapeIndex(listType);
+        Path file = fileFor(shape, size);
+        if (!Files.exists(file)) {
+            write(file, shape, generator.generate(listType, size));
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long expected = HEADER_BYTES + 4L * size;
+            if (channel.size() != expected) {
+                throw new IOException("Tamaño inesperado del archivo " + file + ": " + channel.size());
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, expected);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            checkHeader(buffer, file, shape, size);
+            return buffer.position(HEADER_BYTES).slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        }
+    }
+
+    /**
+     * Calcula la ruta del archivo de una entrada a partir de todos los
+     * parámetros que la determinan.
+     *
+     * @param shape índice del tipo de lista
+     * @param size  número de elementos
+     * @return la ruta del archivo
+     */
+    private Path fileFor(int shape, int size) {
+        return directory.resolve(String.format("tipo%d_n%d_s%x_d%x_k%d.ints", shape, size, generator.getSeed(),
+                Double.doubleToLongBits(generator.getDisorderFraction()), generator.getDistinctValues()));
+    }
+
+    /**
+     * Escribe la cabecera y los datos en un archivo temporal y lo renombra al
+     * nombre definitivo.
+     *
+     * @param file  ruta definitiva
+     * @param shape índice del tipo de lista
+     * @param data  datos a guardar
+     * @throws IOException si falla la escritura
+     */
+    private void write(Path file, int shape, int[] data) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(MAGIC)
+                        .putInt(VERSION)
+                        .putLong(generator.getSeed())
+                        .putDouble(generator.getDisorderFraction())
+                        .putInt(generator.getDistinctValues())
+                        .putInt(shape)
+                        .putInt(data.length)
+                        .putInt(0);
+                writeFully(channel, header.flip());
+
+                // Los datos pasan por un búfer acotado en lugar de copiarse
+                // enteros, que con 10^8 elementos serían 400 MB más
+                ByteBuffer chunk = ByteBuffer.allocateDirect(4 * Math.min(data.length, WRITE_CHUNK_INTS))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                for (int from = 0; from < data.length; from += WRITE_CHUNK_INTS) {
+                    int count = Math.min(WRITE_CHUNK_INTS, data.length - from);
+                    chunk.clear();
+                    chunk.asIntBuffer().put(data, from, count);
+                    chunk.limit(4 * count);
+                    writeFully(channel, chunk);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Escribe todos los bytes restantes del búfer en el canal.
+     *
+     * @param channel canal de destino
+     * @param buffer  bytes a escribir
+     * @throws IOException si falla la escritura
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Comprueba que la cabecera corresponda a la entrada pedida.
+     *
+     * @param buffer archivo proyectado, en posición 0
+     * @param file   ruta del archivo, para los mensajes de error
+     * @param shape  índice del tipo de lista esperado
+     * @param size   número de elementos esperado
+     * @throws IOException si algún campo no coincide
+     */
+    private void checkHeader(ByteBuffer buffer, Path file, int shape, int size) throws IOException {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Archivo de datos no reconocido: " + file);
+        }
+        if (buffer.getLong(8) != generator.getSeed()
+                || Double.compare(buffer.getDouble(16), generator.getDisorderFraction()) != 0
+                || buffer.getInt(24) != generator.getDistinctValues()
+                || buffer.getInt(28) != shape
+                || buffer.getInt(32) != size) {
+            throw new IOException("La cabecera no corresponde a la entrada pedida: " + file);
+        }
+    }
+
+    /**
+     * @param listType tipo de lista
+     * @return su índice en {@link InputShapes#LIST_TYPES}
+     * @throws IllegalArgumentException si el tipo de lista no existe
+     */
+    private static int shapeIndex(String listType) {
+        int index = InputShapes.LIST_TYPES.indexOf(listType);
+        if (index < 0) {
+            throw new IllegalArgumentException("Tipo de lista desconocido: " + listType);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,62 @@
+package ec.edu.epn.model;
+
+/**
+ * Preparación y ajuste que permiten ordenar {@code double[]} comparando con
+ * {@code <} y obtener el orden total de {@link Double#compare}.
+ *
+ * Con {@code <} los {@code NaN} no son comparables y {@code -0.0} es igual a
+ * {@code 0.0}. Por eso, igual que hace {@link java.util.Arrays#sort(double[])},
+ * primero se mueven los {@code NaN} al final y se ordena solo el resto; al
+ * terminar, los ceros quedan juntos y basta con poner los negativos delante.
+ *
+ * @author
+ * @version 1.0
+ */
+final class DoubleOrdering {
+
+    private static final long NEGATIVE_ZERO_BITS = Double.doubleToRawLongBits(-0.0);
+
+    private DoubleOrdering() {
+    }
+
+    /**
+     * Mueve todos los {@code NaN} al final del arreglo.
+     *
+     * @param array arreglo a preparar
+     * @return el número de elementos que no son {@code NaN}, que ocupan el
+     *         principio del arreglo
+     */
+    static int moveNaNsToEnd(double[] array) {
+        int end = array.length;
+        for (int i = end - 1; i >= 0; i--) {
+            if (Double.isNaN(array[i])) {
+                double temp = array[i];
+                array[i] = array[--end];
+                array[end] = temp;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Reordena el bloque de ceros de un prefijo ya ordenado con {@code <} para
+     * que los {@code -0.0} precedan a los {@code 0.0}.
+     *
+     * @param array arreglo ordenado en {@code [0, length)}
+     * @param length longitud del prefijo ordenado
+     */
+    static void orderSignedZeros(double[] array, int length) {
+        int first = 0;
+        while (first < length && array[first] < 0.0)
+            first++;
+        int negatives = 0;
+        int end = first;
+        while (end < length && array[end] == 0.0) {
+            if (Double.doubleToRawLongBits(array[end]) == NEGATIVE_ZERO_BITS)
+                negatives++;
+            end++;
+        }
+        for (int i = first; i < end; i++)
+            array[i] = i < first + negatives ? -0.0 : 0.0;
+    }
+}
@@ -0,0 +1,156 @@
+package ec.edu.epn.model;
+
+/**
+ * Variante optimizada de Selection Sort que busca el mínimo y el máximo en la
+ * misma pasada.
+ * 
+ * Cada pasada coloca el mínimo al principio y el máximo al final de la parte
+ * sin ordenar, de modo que se hacen la mitad de pasadas. Un elemento menor que
+ * el mínimo actual no puede ser mayor que el máximo, así que en ese caso se
+ * ahorra la segunda comparación. Los intercambios de un elemento consigo mismo
+ * se omiten.
+ * 
+ * Complejidad temporal: O(n^2)
+ * 
+ * @author
+ * @version 1.0
+ */
+public class DoubleSelectionSort implements InstrumentedSortAlgorithm, TraceableSortAlgorithm {
+
+    /**
+     * Ordena el arreglo especificado con Selection Sort doble.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     */
+    @Override
+    public void sort(int[] array) {
+        int left = 0;
+        int right = array.length - 1;
+        while (left < right) {
+            int minIndex = left;
+            int maxIndex = left;
+            for (int j = left + 1; j <= right; j++) {
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                } else if (array[j] > array[maxIndex]) {
+                    maxIndex = j;
+                }
+            }
+            if (minIndex != left) {
+                int temp = array[minIndex];
+                array[minIndex] = array[left];
+                array[left] = temp;
+                // Si el máximo estaba en "left", el intercambio lo movió a minIndex
+                if (maxIndex == left)
+                    maxIndex = minIndex;
+            }
+            if (maxIndex != right) {
+                int temp = array[maxIndex];
+                array[maxIndex] = array[right];
+                array[right] = temp;
+            }
+            left++;
+            right--;
+        }
+    }
+
+    /**
+     * Variante instrumentada de {@link #sort(int[])}: realiza las mismas
+     * operaciones y las cuenta.
+     * 
+     * @param array  el arreglo de enteros a ordenar
+     * @param counts contadores donde se suman las operaciones
+     */
+    @Override
+    public void sort(int[] array, OperationCounts counts) {
+        int left = 0;
+        int right = array.length - 1;
+        while (left < right) {
+            int minIndex = left;
+            int maxIndex = left;
+            for (int j = left + 1; j <= right; j++) {
+                counts.comparisons++;
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                } else {
+                    counts.comparisons++;
+                    if (array[j] > array[maxIndex]) {
+                        maxIndex = j;
+                    }
+                }
+            }
+            if (minIndex != left) {
+                int temp = array[minIndex];
+                array[minIndex] = array[left];
+                array[left] = temp;
+                counts.swaps++;
+                counts.writes += 2;
+                if (maxIndex == left)
+                    maxIndex = minIndex;
+            }
+            if (maxIndex != right) {
+                int temp = array[maxIndex];
+                array[maxIndex] = array[right];
+                array[right] = temp;
+                counts.swaps++;
+                counts.writes += 2;
+            }
+            left++;
+            right--;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que graba cada comparación e
+     * intercambio en el registro.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     * @param trace registro donde se añaden los eventos
+     */
+    @Override
+    public void sort(int[] array, SortTrace trace) {
+        int left = 0;
+        int right = array.length - 1;
+        while (left < right) {
+            int minIndex = left;
+            int maxIndex = left;
+            for (int j = left + 1; j <= right; j++) {
+                trace.compare(j, minIndex);
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                } else {
+                    trace.compare(j, maxIndex);
+                    if (array[j] > array[maxIndex]) {
+                        maxIndex = j;
+                    }
+                }
+            }
+            if (minIndex != left) {
+                int temp = array[minIndex];
+                array[minIndex] = array[left];
+                array[left] = temp;
+                trace.swap(left, minIndex);
+                if (maxIndex == left)
+                    maxIndex = minIndex;
+            }
+            if (maxIndex != right) {
+                int temp = array[maxIndex];
+                array[maxIndex] = array[right];
+                array[right] = temp;
+                trace.swap(right, maxIndex);
+            }
+            left++;
+            right--;
+        }
+    }
+
+    /**
+     * Devuelve el nombre del algoritmo.
+     * 
+     * @return el nombre "Selection Sort (doble)"
+     */
+    @Override
+    public String getName() {
+        return "Selection Sort (doble)";
+    }
+}
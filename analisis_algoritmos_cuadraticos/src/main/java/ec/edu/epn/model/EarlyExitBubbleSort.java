@@ -0,0 +1,103 @@
+package ec.edu.epn.model;
+
+/**
+ * Variante optimizada de Bubble Sort que recuerda la posición del último
+ * intercambio de cada pasada.
+ * 
+ * Todo lo que queda a la derecha del último intercambio ya está en su
+ * posición final, así que la siguiente pasada se detiene ahí. Si una pasada no
+ * intercambia nada el arreglo está ordenado y el algoritmo termina.
+ * 
+ * Complejidad temporal: O(n^2) en el peor caso, O(n) cuando el arreglo ya
+ * está ordenado.
+ * 
+ * @author
+ * @version 1.0
+ */
+public class EarlyExitBubbleSort implements InstrumentedSortAlgorithm, TraceableSortAlgorithm {
+
+    /**
+     * Ordena el arreglo especificado con Bubble Sort con salida temprana.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     */
+    @Override
+    public void sort(int[] array) {
+        int boundary = array.length - 1;
+        while (boundary > 0) {
+            int lastSwap = 0;
+            for (int j = 0; j < boundary; j++) {
+                if (array[j] > array[j + 1]) {
+                    int temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                    lastSwap = j;
+                }
+            }
+            boundary = lastSwap;
+        }
+    }
+
+    /**
+     * Variante instrumentada de {@link #sort(int[])}: realiza las mismas
+     * operaciones y las cuenta.
+     * 
+     * @param array  el arreglo de enteros a ordenar
+     * @param counts contadores donde se suman las operaciones
+     */
+    @Override
+    public void sort(int[] array, OperationCounts counts) {
+        int boundary = array.length - 1;
+        while (boundary > 0) {
+            int lastSwap = 0;
+            for (int j = 0; j < boundary; j++) {
+                counts.comparisons++;
+                if (array[j] > array[j + 1]) {
+                    int temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                    lastSwap = j;
+                    counts.swaps++;
+                    counts.writes += 2;
+                }
+            }
+            boundary = lastSwap;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que graba cada comparación e
+     * intercambio en el registro.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     * @param trace registro donde se añaden los eventos
+     */
+    @Override
+    public void sort(int[] array, SortTrace trace) {
+        int boundary = array.length - 1;
+        while (boundary > 0) {
+            int lastSwap = 0;
+            for (int j = 0; j < boundary; j++) {
+                trace.compare(j, j + 1);
+                if (array[j] > array[j + 1]) {
+                    int temp = array[j];
+                    array[j] = array[j + 1];
+                    array[j + 1] = temp;
+                    lastSwap = j;
+                    trace.swap(j, j + 1);
+                }
+            }
+            boundary = lastSwap;
+        }
+    }
+
+    /**
+     * Devuelve el nombre del algoritmo.
+     * 
+     * @return el nombre "Bubble Sort (salida temprana)"
+     */
+    @Override
+    public String getName() {
+        return "Bubble Sort (salida temprana)";
+    }
+}
@@ -0,0 +1,420 @@
+package ec.edu.epn.model;
+
+import java.util.Arrays;
+
+/**
+ * Ordenamiento híbrido: Merge Sort que delega los tramos pequeños a
+ * {@link InsertionSort}.
+ *
+ * Por debajo de cierto tamaño Insertion Sort es más rápido que seguir
+ * dividiendo, porque su bucle interno es muy simple y los datos caben en la
+ * caché. Ese umbral depende del procesador, así que en lugar de fijarlo se
+ * calibra una sola vez, al crear la primera instancia, midiendo varios candidatos sobre esta
+ * máquina (ver {@link #calibratedThreshold()}). Con la propiedad del sistema
+ * {@value #THRESHOLD_PROPERTY} se fija el umbral y no se calibra, por ejemplo
+ * para que todas las bifurcaciones de JMH usen el mismo. Si dos mitades ya
+ * están en orden, la mezcla se omite.
+ *
+ * Complejidad temporal: O(n log n), con O(n) de memoria auxiliar.
+ *
+ * @author
+ * @version 1.0
+ */
+public class HybridSort implements InstrumentedSortAlgorithm, TraceableSortAlgorithm {
+
+    /** Propiedad del sistema que fija el umbral en lugar de calibrarlo */
+    public static final String THRESHOLD_PROPERTY = "sort.hybrid.threshold";
+
+    /** Umbrales que se prueban primero en la calibración */
+    private static final int[] CANDIDATE_THRESHOLDS = { 4, 8, 12, 16, 24, 32, 48, 64, 96, 128 };
+
+    /** Mayor umbral al que se extiende la rejilla de candidatos */
+    private static final int MAX_THRESHOLD = 1024;
+
+    /** Tamaño de la entrada de calibración */
+    private static final int CALIBRATION_SIZE = 1 << 14;
+
+    /** Ordenamientos cronometrados juntos en cada muestra de un candidato */
+    private static final int SORTS_PER_SAMPLE = 4;
+
+    /** Máximo de rondas de calentamiento por rejilla de candidatos */
+    private static final int MAX_WARMUP_ROUNDS = 40;
+
+    /** Rondas de cada ventana de la detección de estabilidad */
+    private static final int WARMUP_WINDOW = 3;
+
+    /** Diferencia máxima entre ventanas para dar el calentamiento por terminado, en % */
+    private static final int WARMUP_TOLERANCE_PERCENT = 3;
+
+    /** Rondas medidas después del calentamiento */
+    private static final int CALIBRATION_ROUNDS = 9;
+
+    /** Tramo máximo que se ordena con Insertion Sort */
+    private final int threshold;
+
+    private final InsertionSort insertionSort = new InsertionSort();
+
+    /**
+     * Crea el algoritmo con el umbral calibrado para este procesador.
+     */
+    public HybridSort() {
+        this(calibratedThreshold());
+    }
+
+    /**
+     * Crea el algoritmo con un umbral fijo.
+     *
+     * @param threshold tramo máximo que se ordena con Insertion Sort (al
+     *                  menos 1)
+     * @throws IllegalArgumentException si el umbral no es positivo
+     */
+    public HybridSort(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Umbral inválido: " + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Devuelve el umbral calibrado. La calibración se ejecuta una sola vez, la
+     * primera vez que se pide, salvo que la propiedad
+     * {@value #THRESHOLD_PROPERTY} indique el umbral.
+     *
+     * @return el tramo máximo que conviene ordenar con Insertion Sort
+     * @throws IllegalArgumentException si la propiedad no es un entero
+     *                                  positivo
+     */
+    public static int calibratedThreshold() {
+        String pinned = System.getProperty(THRESHOLD_PROPERTY);
+        if (pinned == null) {
+            return Calibration.THRESHOLD;
+        }
+        try {
+            int threshold = Integer.parseInt(pinned.trim());
+            if (threshold >= 1) {
+                return threshold;
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo con el mismo mensaje que un umbral no positivo
+        }
+        throw new IllegalArgumentException("Umbral inválido en " + THRESHOLD_PROPERTY + ": " + pinned);
+    }
+
+    /**
+     * @return el tramo máximo que esta instancia ordena con Insertion Sort
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Ordena el arreglo especificado con el algoritmo híbrido.
+     *
+     * @param array el arreglo de enteros a ordenar
+     */
+    @Override
+    public void sort(int[] array) {
+        if (array.length <= threshold) {
+            insertionSort.sort(array, 0, array.length);
+            return;
+        }
+        sort(array, new int[array.length], 0, array.length);
+    }
+
+    /**
+     * Ordena el rango {@code [from, to)} dividiéndolo hasta el umbral.
+     *
+     * @param array  el arreglo de enteros
+     * @param buffer búfer auxiliar del tamaño del arreglo
+     * @param from   primer índice del rango, incluido
+     * @param to     último índice del rango, excluido
+     */
+    private void sort(int[] array, int[] buffer, int from, int to) {
+        if (to - from <= threshold) {
+            insertionSort.sort(array, from, to);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sort(array, buffer, from, mid);
+        sort(array, buffer, mid, to);
+        if (array[mid - 1] <= array[mid])
+            return;
+
+        // Mezclar copiando solo la mitad izquierda al búfer
+        System.arraycopy(array, from, buffer, from, mid - from);
+        int i = from;
+        int j = mid;
+        int k = from;
+        while (i < mid && j < to) {
+            if (array[j] < buffer[i]) {
+                array[k++] = array[j++];
+            } else {
+                array[k++] = buffer[i++];
+            }
+        }
+        // Lo que quede de la mitad derecha ya está en su sitio
+        while (i < mid)
+            array[k++] = buffer[i++];
+    }
+
+    /**
+     * Variante instrumentada de {@link #sort(int[])}: realiza las mismas
+     * operaciones y las cuenta. Las copias al búfer auxiliar no cuentan como
+     * escrituras en el arreglo.
+     *
+     * @param array  el arreglo de enteros a ordenar
+     * @param counts contadores donde se suman las operaciones
+     */
+    @Override
+    public void sort(int[] array, OperationCounts counts) {
+        if (array.length <= threshold) {
+            insertionSort.sort(array, 0, array.length, counts);
+            return;
+        }
+        sort(array, new int[array.length], 0, array.length, counts);
+    }
+
+    /**
+     * Variante instrumentada de {@link #sort(int[], int[], int, int)}.
+     *
+     * @param array  el arreglo de enteros
+     * @param buffer búfer auxiliar del tamaño del arreglo
+     * @param from   primer índice del rango, incluido
+     * @param to     último índice del rango, excluido
+     * @param counts contadores donde se suman las operaciones
+     */
+    private void sort(int[] array, int[] buffer, int from, int to, OperationCounts counts) {
+        if (to - from <= threshold) {
+            insertionSort.sort(array, from, to, counts);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sort(array, buffer, from, mid, counts);
+        sort(array, buffer, mid, to, counts);
+        counts.comparisons++;
+        if (array[mid - 1] <= array[mid])
+            return;
+
+        System.arraycopy(array, from, buffer, from, mid - from);
+        int i = from;
+        int j = mid;
+        int k = from;
+        while (i < mid && j < to) {
+            counts.comparisons++;
+            if (array[j] < buffer[i]) {
+                array[k++] = array[j++];
+            } else {
+                array[k++] = buffer[i++];
+            }
+            counts.writes++;
+        }
+        while (i < mid) {
+            array[k++] = buffer[i++];
+            counts.writes++;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que graba cada comparación y escritura
+     * en el registro. Durante una mezcla, cada elemento de la mitad izquierda
+     * se identifica por la posición que ocupaba antes de copiarse al búfer.
+     *
+     * @param array el arreglo de enteros a ordenar
+     * @param trace registro donde se añaden los eventos
+     */
+    @Override
+    public void sort(int[] array, SortTrace trace) {
+        if (array.length <= threshold) {
+            insertionSort.sort(array, 0, array.length, trace);
+            return;
+        }
+        sort(array, new int[array.length], 0, array.length, trace);
+    }
+
+    /**
+     * Variante de {@link #sort(int[], int[], int, int)} que graba los eventos.
+     *
+     * @param array  el arreglo de enteros
+     * @param buffer búfer auxiliar del tamaño del arreglo
+     * @param from   primer índice del rango, incluido
+     * @param to     último índice del rango, excluido
+     * @param trace  registro donde se añaden los eventos
+     */
+    private void sort(int[] array, int[] buffer, int from, int to, SortTrace trace) {
+        if (to - from <= threshold) {
+            insertionSort.sort(array, from, to, trace);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sort(array, buffer, from, mid, trace);
+        sort(array, buffer, mid, to, trace);
+        trace.compare(mid - 1, mid);
+        if (array[mid - 1] <= array[mid])
+            return;
+
+        System.arraycopy(array, from, buffer, from, mid - from);
+        int i = from;
+        int j = mid;
+        int k = from;
+        while (i < mid && j < to) {
+            trace.compare(i, j);
+            if (array[j] < buffer[i]) {
+                array[k] = array[j++];
+            } else {
+                array[k] = buffer[i++];
+            }
+            trace.write(k, array[k]);
+            k++;
+        }
+        while (i < mid) {
+            array[k] = buffer[i++];
+            trace.write(k, array[k]);
+            k++;
+        }
+    }
+
+    /**
+     * Devuelve el nombre del algoritmo.
+     *
+     * @return el nombre "Hybrid Sort"
+     */
+    @Override
+    public String getName() {
+        return "Hybrid Sort";
+    }
+
+    /**
+     * Calibración perezosa del umbral: la JVM inicializa esta clase una sola
+     * vez y de forma segura entre hilos, la primera vez que se usa.
+     */
+    private static final class Calibration {
+
+        static final int THRESHOLD = calibrate();
+
+        /**
+         * Mide la rejilla inicial de candidatos y, mientras el ganador quede en
+         * uno de sus extremos, mide otra rejilla desplazada hacia ese lado: el
+         * óptimo puede estar fuera de los valores probados. Hacia abajo la
+         * rejilla llega a 1 y hacia arriba a {@value #MAX_THRESHOLD}.
+         *
+         * @return el umbral más rápido
+         */
+        private static int calibrate() {
+            int[] input = new DataGenerator(42L).generate("Aleatoria", CALIBRATION_SIZE);
+            int[] work = new int[CALIBRATION_SIZE];
+            int[] candidates = CANDIDATE_THRESHOLDS;
+            int best = fastest(candidates, input, work);
+            while (true) {
+                int last = candidates.length - 1;
+                if (best == candidates[last] && best < MAX_THRESHOLD) {
+                    candidates = distinct(candidates[last - 1], best, Math.min(MAX_THRESHOLD, best * 3 / 2),
+                            Math.min(MAX_THRESHOLD, best * 2), Math.min(MAX_THRESHOLD, best * 3));
+                } else if (best == candidates[0] && best > 1) {
+                    candidates = distinct(1, Math.max(1, best / 4), Math.max(1, best / 2), best, candidates[1]);
+                } else {
+                    return best;
+                }
+                best = fastest(candidates, input, work);
+            }
+        }
+
+        /**
+         * Mide cada candidato ordenando la misma entrada aleatoria y elige el
+         * de menor mediana. Las rondas recorren todos los candidatos, de modo
+         * que el calentamiento del JIT y las variaciones de frecuencia afectan
+         * a todos por igual. El calentamiento dura hasta que el tiempo de una
+         * ronda completa se estabiliza, con el mismo criterio de ventanas que
+         * {@code MeasurementEngine}, y después se miden
+         * {@value #CALIBRATION_ROUNDS} rondas.
+         *
+         * @param candidates umbrales a comparar, en orden creciente
+         * @param input      entrada de calibración; no se modifica
+         * @param work       arreglo de trabajo del mismo tamaño
+         * @return el umbral de menor mediana
+         */
+        private static int fastest(int[] candidates, int[] input, int[] work) {
+            long[] roundNanos = new long[MAX_WARMUP_ROUNDS];
+            for (int round = 0; round < MAX_WARMUP_ROUNDS; round++) {
+                for (int candidate : candidates)
+                    roundNanos[round] += sample(candidate, input, work);
+                if (isSteady(roundNanos, round + 1))
+                    break;
+            }
+
+            long[][] samples = new long[candidates.length][CALIBRATION_ROUNDS];
+            for (int round = 0; round < CALIBRATION_ROUNDS; round++) {
+                for (int c = 0; c < candidates.length; c++)
+                    samples[c][round] = sample(candidates[c], input, work);
+            }
+
+            int bestIndex = 0;
+            long bestMedian = Long.MAX_VALUE;
+            for (int c = 0; c < candidates.length; c++) {
+                Arrays.sort(samples[c]);
+                long median = samples[c][CALIBRATION_ROUNDS / 2];
+                if (median < bestMedian) {
+                    bestMedian = median;
+                    bestIndex = c;
+                }
+            }
+            return candidates[bestIndex];
+        }
+
+        /**
+         * Cronometra {@value #SORTS_PER_SAMPLE} ordenamientos seguidos con un
+         * umbral; uno solo dura décimas de milisegundo y queda a merced del
+         * temporizador y de cualquier interrupción. La copia de la entrada
+         * entra en el tiempo, pero cuesta lo mismo para todos los candidatos.
+         *
+         * @param threshold umbral a medir
+         * @param input     entrada de calibración; no se modifica
+         * @param work      arreglo de trabajo del mismo tamaño
+         * @return el tiempo total en nanosegundos
+         */
+        private static long sample(int threshold, int[] input, int[] work) {
+            HybridSort candidate = new HybridSort(threshold);
+            long start = System.nanoTime();
+            for (int i = 0; i < SORTS_PER_SAMPLE; i++) {
+                System.arraycopy(input, 0, work, 0, input.length);
+                candidate.sort(work);
+            }
+            return System.nanoTime() - start;
+        }
+
+        /**
+         * Indica si las dos últimas ventanas de {@value #WARMUP_WINDOW} rondas
+         * tienen medianas que difieren menos de
+         * {@value #WARMUP_TOLERANCE_PERCENT} %.
+         *
+         * @param roundNanos tiempo de cada ronda
+         * @param rounds     rondas medidas hasta ahora
+         * @return {@code true} si el tiempo por ronda ya no cambia
+         */
+        private static boolean isSteady(long[] roundNanos, int rounds) {
+            if (rounds < 2 * WARMUP_WINDOW)
+                return false;
+            long previous = median(roundNanos, rounds - 2 * WARMUP_WINDOW);
+            long current = median(roundNanos, rounds - WARMUP_WINDOW);
+            return Math.abs(current - previous) * 100 <= previous * WARMUP_TOLERANCE_PERCENT;
+        }
+
+        /**
+         * @param values valores
+         * @param from   inicio de la ventana
+         * @return la mediana de los {@value #WARMUP_WINDOW} valores desde {@code from}
+         */
+        private static long median(long[] values, int from) {
+            long[] window = Arrays.copyOfRange(values, from, from + WARMUP_WINDOW);
+            Arrays.sort(window);
+            return window[WARMUP_WINDOW / 2];
+        }
+
+        /**
+         * @param values umbrales en orden no decreciente
+         * @return los umbrales sin repetidos
+         */
+        private static int[] distinct(int... values) {
+            return Arrays.stream(values).distinct().toArray();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package ec.edu.epn.model;
+
+import java.util.List;
+
+/**
+ * Genera los arreglos de entrada de las mediciones con las mismas formas que
+ * ofrece la interfaz gráfica ("Ordenada", "Inversamente ordenada", "Aleatoria",
+ * "Casi ordenada" y "Con duplicados").
+ *
+ * A diferencia de la interfaz, la semilla es explícita para que distintas
+ * ejecuciones (o bifurcaciones de JMH) midan exactamente la misma entrada. La
+ * generación la hace un {@link DataGenerator} con sus parámetros por defecto.
+ *
+ * @author
+ * @version 1.0
+ */
+public final class InputShapes {
+
+    /** Tipos de lista disponibles, en el mismo orden que la interfaz */
+    public static final List<String> LIST_TYPES = List.of(
+            "Ordenada", "Inversamente ordenada", "Aleatoria", "Casi ordenada", "Con duplicados");
+
+    private InputShapes() {
+    }
+
+    /**
+     * Genera un arreglo con la forma y el tamaño indicados.
+     *
+     * @param listType tipo de lista, tal como aparece en la interfaz
+     * @param size     número de elementos
+     * @param seed     semilla del generador aleatorio
+     * @return el arreglo generado
+     * @throws IllegalArgumentException si el tipo de lista no existe
+     */
+    public static int[] generate(String listType, int size, long seed) {
+        return new DataGenerator(seed).generate(listType, size);
+    }
+}
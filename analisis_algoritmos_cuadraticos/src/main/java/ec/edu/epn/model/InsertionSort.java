@@ -13,7 +13,9 @@ package ec.edu.epn.model;
  * @author 
  * @version 1.0
  */
-public class InsertionSort implements SortAlgorithm {
+public class InsertionSort
+        implements InstrumentedSortAlgorithm, TraceableSortAlgorithm, PrimitiveSortAlgorithm, KeyedSortAlgorithm,
+        RangeSortAlgorithm {
 
     /**
      * Ordena el arreglo especificado utilizando el algoritmo Insertion Sort.
@@ -35,6 +37,264 @@ public class InsertionSort implements SortAlgorithm {
         }
     }
 
+    /**
+     * Variante instrumentada de {@link #sort(int[])}: realiza las mismas
+     * operaciones y las cuenta. Insertion Sort desplaza elementos en lugar de
+     * intercambiarlos, por lo que solo suma comparaciones y escrituras.
+     * 
+     * @param array  el arreglo de enteros a ordenar
+     * @param counts contadores donde se suman las operaciones
+     */
+    @Override
+    public void sort(int[] array, OperationCounts counts) {
+        int n = array.length;
+        for (int i = 1; i < n; ++i) {
+            int key = array[i];
+            int j = i - 1;
+            while (j >= 0) {
+                counts.comparisons++;
+                if (array[j] <= key) {
+                    break;
+                }
+                array[j + 1] = array[j];
+                counts.writes++;
+                j = j - 1;
+            }
+            array[j + 1] = key;
+            counts.writes++;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que graba cada comparación y escritura
+     * en el registro. La clave que se inserta se compara como si ocupara la
+     * posición {@code j + 1}, el hueco que va dejando el desplazamiento.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     * @param trace registro donde se añaden los eventos
+     */
+    @Override
+    public void sort(int[] array, SortTrace trace) {
+        int n = array.length;
+        for (int i = 1; i < n; ++i) {
+            int key = array[i];
+            int j = i - 1;
+            while (j >= 0) {
+                trace.compare(j, j + 1);
+                if (array[j] <= key) {
+                    break;
+                }
+                array[j + 1] = array[j];
+                trace.write(j + 1, array[j]);
+                j = j - 1;
+            }
+            array[j + 1] = key;
+            trace.write(j + 1, key);
+        }
+    }
+
+    /**
+     * Ordena solo el rango {@code [from, to)} del arreglo. Es la base de los
+     * algoritmos híbridos, que usan Insertion Sort en los tramos pequeños.
+     * 
+     * @param array el arreglo de enteros
+     * @param from  primer índice del rango, incluido
+     * @param to    último índice del rango, excluido
+     */
+    @Override
+    public void sort(int[] array, int from, int to) {
+        for (int i = from + 1; i < to; ++i) {
+            int key = array[i];
+            int j = i - 1;
+            while (j >= from && array[j] > key) {
+                array[j + 1] = array[j];
+                j = j - 1;
+            }
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Variante instrumentada de {@link #sort(int[], int, int)}.
+     * 
+     * @param array  el arreglo de enteros
+     * @param from   primer índice del rango, incluido
+     * @param to     último índice del rango, excluido
+     * @param counts contadores donde se suman las operaciones
+     */
+    public void sort(int[] array, int from, int to, OperationCounts counts) {
+        for (int i = from + 1; i < to; ++i) {
+            int key = array[i];
+            int j = i - 1;
+            while (j >= from) {
+                counts.comparisons++;
+                if (array[j] <= key) {
+                    break;
+                }
+                array[j + 1] = array[j];
+                counts.writes++;
+                j = j - 1;
+            }
+            array[j + 1] = key;
+            counts.writes++;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[], int, int)} que graba cada comparación y
+     * escritura en el registro.
+     * 
+     * @param array el arreglo de enteros
+     * @param from  primer índice del rango, incluido
+     * @param to    último índice del rango, excluido
+     * @param trace registro donde se añaden los eventos
+     */
+    public void sort(int[] array, int from, int to, SortTrace trace) {
+        for (int i = from + 1; i < to; ++i) {
+            int key = array[i];
+            int j = i - 1;
+            while (j >= from) {
+                trace.compare(j, j + 1);
+                if (array[j] <= key) {
+                    break;
+                }
+                array[j + 1] = array[j];
+                trace.write(j + 1, array[j]);
+                j = j - 1;
+            }
+            array[j + 1] = key;
+            trace.write(j + 1, key);
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code long[]}.
+     * 
+     * @param array el arreglo a ordenar
+     */
+    @Override
+    public void sort(long[] array) {
+        int n = array.length;
+        for (int i = 1; i < n; ++i) {
+            long key = array[i];
+            int j = i - 1;
+            while (j >= 0 && array[j] > key) {
+                array[j + 1] = array[j];
+                j = j - 1;
+            }
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code double[]}. Los {@code NaN}
+     * se apartan al final antes de ordenar y los ceros con signo se ajustan
+     * después, así que el bucle compara con {@code <} y {@code >} igual que
+     * la versión de enteros.
+     * 
+     * @param array el arreglo de reales a ordenar
+     */
+    @Override
+    public void sort(double[] array) {
+        int n = DoubleOrdering.moveNaNsToEnd(array);
+        for (int i = 1; i < n; ++i) {
+            double key = array[i];
+            int j = i - 1;
+            while (j >= 0 && array[j] > key) {
+                array[j + 1] = array[j];
+                j = j - 1;
+            }
+            array[j + 1] = key;
+        }
+        DoubleOrdering.orderSignedZeros(array, n);
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code short[]}.
+     * 
+     * @param array el arreglo a ordenar
+     */
+    @Override
+    public void sort(short[] array) {
+        int n = array.length;
+        for (int i = 1; i < n; ++i) {
+            short key = array[i];
+            int j = i - 1;
+            while (j >= 0 && array[j] > key) {
+                array[j + 1] = array[j];
+                j = j - 1;
+            }
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code byte[]}.
+     * 
+     * @param array el arreglo a ordenar
+     */
+    @Override
+    public void sort(byte[] array) {
+        int n = array.length;
+        for (int i = 1; i < n; ++i) {
+            byte key = array[i];
+            int j = i - 1;
+            while (j >= 0 && array[j] > key) {
+                array[j + 1] = array[j];
+                j = j - 1;
+            }
+            array[j + 1] = key;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que ordena claves {@code int} moviendo
+     * los índices paralelos junto con ellas.
+     * 
+     * @param keys    claves a ordenar
+     * @param indices índices que acompañan a cada clave
+     */
+    @Override
+    public void sort(int[] keys, int[] indices) {
+        int n = keys.length;
+        for (int i = 1; i < n; ++i) {
+            int key = keys[i];
+            int index = indices[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                indices[j + 1] = indices[j];
+                j = j - 1;
+            }
+            keys[j + 1] = key;
+            indices[j + 1] = index;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que ordena claves {@code long} moviendo
+     * los índices paralelos junto con ellas.
+     * 
+     * @param keys    claves a ordenar
+     * @param indices índices que acompañan a cada clave
+     */
+    @Override
+    public void sort(long[] keys, int[] indices) {
+        int n = keys.length;
+        for (int i = 1; i < n; ++i) {
+            long key = keys[i];
+            int index = indices[i];
+            int j = i - 1;
+            while (j >= 0 && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                indices[j + 1] = indices[j];
+                j = j - 1;
+            }
+            keys[j + 1] = key;
+            indices[j + 1] = index;
+        }
+    }
+
     /**
      * Devuelve el nombre del algoritmo.
      * 
@@ -0,0 +1,25 @@
+package ec.edu.epn.model;
+
+/**
+ * Algoritmo de ordenamiento con un modo instrumentado que cuenta
+ * comparaciones, intercambios y escrituras.
+ *
+ * El modo instrumentado es una variante especializada del algoritmo y no un
+ * envoltorio: {@link #sort(int[])} no contiene ningún incremento de contador,
+ * así que su rendimiento no cambia por existir este modo. Ambas variantes
+ * deben realizar exactamente la misma secuencia de operaciones.
+ *
+ * @author
+ * @version 1.0
+ */
+public interface InstrumentedSortAlgorithm extends SortAlgorithm {
+
+    /**
+     * Ordena el arreglo acumulando en {@code counts} las operaciones
+     * realizadas.
+     *
+     * @param array  el arreglo de enteros a ordenar
+     * @param counts contadores donde se suman las operaciones
+     */
+    void sort(int[] array, OperationCounts counts);
+}
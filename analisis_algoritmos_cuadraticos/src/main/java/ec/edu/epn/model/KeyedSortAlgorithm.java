@@ -0,0 +1,34 @@
+package ec.edu.epn.model;
+
+/**
+ * Algoritmo de ordenamiento que ordena claves primitivas arrastrando un
+ * arreglo paralelo de índices.
+ *
+ * Es la base de {@link RecordSort}: en lugar de comparar objetos con un
+ * {@code Comparator}, las claves de los registros se copian a un arreglo
+ * primitivo y cada movimiento de una clave mueve también el índice del
+ * registro al que pertenece. Los registros se reordenan una sola vez al final.
+ *
+ * @author
+ * @version 1.0
+ */
+public interface KeyedSortAlgorithm extends SortAlgorithm {
+
+    /**
+     * Ordena {@code keys} de menor a mayor aplicando a {@code indices} los
+     * mismos movimientos.
+     *
+     * @param keys    claves a ordenar
+     * @param indices índices paralelos, de la misma longitud que las claves
+     */
+    void sort(int[] keys, int[] indices);
+
+    /**
+     * Ordena {@code keys} de menor a mayor aplicando a {@code indices} los
+     * mismos movimientos.
+     *
+     * @param keys    claves a ordenar
+     * @param indices índices paralelos, de la misma longitud que las claves
+     */
+    void sort(long[] keys, int[] indices);
+}
@@ -0,0 +1,86 @@
+package ec.edu.epn.model;
+
+/**
+ * Contadores de operaciones elementales de un algoritmo de ordenamiento:
+ * comparaciones entre elementos, intercambios y escrituras en el arreglo.
+ *
+ * A diferencia del tiempo de reloj, estos conteos no dependen de la máquina,
+ * por lo que permiten comparar algoritmos de forma reproducible.
+ *
+ * @author
+ * @version 1.0
+ */
+public class OperationCounts {
+
+    /** Comparaciones entre dos elementos del arreglo */
+    long comparisons;
+
+    /** Intercambios de dos posiciones */
+    long swaps;
+
+    /** Escrituras individuales en el arreglo (un intercambio son dos) */
+    long writes;
+
+    /**
+     * Crea contadores en cero.
+     */
+    public OperationCounts() {
+    }
+
+    /**
+     * Crea contadores con los valores indicados.
+     *
+     * @param comparisons número de comparaciones
+     * @param swaps       número de intercambios
+     * @param writes      número de escrituras
+     */
+    public OperationCounts(long comparisons, long swaps, long writes) {
+        this.comparisons = comparisons;
+        this.swaps = swaps;
+        this.writes = writes;
+    }
+
+    /**
+     * Pone todos los contadores en cero.
+     */
+    public void reset() {
+        comparisons = 0;
+        swaps = 0;
+        writes = 0;
+    }
+
+    /** @return el número de comparaciones */
+    public long getComparisons() {
+        return comparisons;
+    }
+
+    /** @return el número de intercambios */
+    public long getSwaps() {
+        return swaps;
+    }
+
+    /** @return el número de escrituras en el arreglo */
+    public long getWrites() {
+        return writes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof OperationCounts))
+            return false;
+        OperationCounts other = (OperationCounts) o;
+        return comparisons == other.comparisons && swaps == other.swaps && writes == other.writes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(comparisons) * 961 + Long.hashCode(swaps) * 31 + Long.hashCode(writes);
+    }
+
+    @Override
+    public String toString() {
+        return "comparaciones=" + comparisons + ", intercambios=" + swaps + ", escrituras=" + writes;
+    }
+}
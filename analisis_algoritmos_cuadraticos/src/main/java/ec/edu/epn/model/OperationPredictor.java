@@ -0,0 +1,128 @@
+package ec.edu.epn.model;
+
+/**
+ * Predice el número exacto de operaciones que realizará cada algoritmo sobre
+ * una entrada concreta, sin ejecutarlo.
+ *
+ * Las fórmulas dependen solo de n y del número de inversiones I de la entrada
+ * (pares i &lt; j con a[i] &gt; a[j]):
+ * <ul>
+ * <li>Bubble Sort: n(n-1)/2 comparaciones, I intercambios, 2I escrituras.</li>
+ * <li>Selection Sort: n(n-1)/2 comparaciones, n-1 intercambios y 2(n-1)
+ * escrituras, sea cual sea la entrada.</li>
+ * <li>Insertion Sort: I + (n-1) - m comparaciones, donde m es el número de
+ * elementos estrictamente menores que todos los anteriores (para ellos el
+ * bucle termina por j &lt; 0 sin comparar), y I + (n-1) escrituras.</li>
+ * </ul>
+ * Para una lista "Ordenada", I = 0 y m = 0; para una "Inversamente ordenada"
+ * sin repetidos, I = n(n-1)/2 y m = n-1. En las formas aleatorias las
+ * inversiones se cuentan sobre la entrada generada en O(n log n).
+ *
+ * @author
+ * @version 1.0
+ */
+public final class OperationPredictor {
+
+    private OperationPredictor() {
+    }
+
+    /**
+     * Indica si hay un modelo de operaciones para el algoritmo.
+     *
+     * @param algorithmName nombre del algoritmo ({@link SortAlgorithm#getName()})
+     * @return {@code true} si {@link #predict} lo admite
+     */
+    public static boolean hasModel(String algorithmName) {
+        switch (algorithmName) {
+            case "Bubble Sort":
+            case "Selection Sort":
+            case "Insertion Sort":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Predice las operaciones del algoritmo indicado sobre la entrada.
+     *
+     * @param algorithmName nombre del algoritmo ({@link SortAlgorithm#getName()})
+     * @param input         entrada sin ordenar (no se modifica)
+     * @return los conteos exactos esperados
+     * @throws IllegalArgumentException si no hay modelo para el algoritmo
+     */
+    public static OperationCounts predict(String algorithmName, int[] input) {
+        long n = input.length;
+        long pairs = n * (n - 1) / 2;
+        long passes = Math.max(n - 1, 0);
+
+        switch (algorithmName) {
+            case "Bubble Sort": {
+                long inversions = countInversions(input);
+                return new OperationCounts(pairs, inversions, 2 * inversions);
+            }
+            case "Selection Sort":
+                return new OperationCounts(pairs, passes, 2 * passes);
+            case "Insertion Sort": {
+                long inversions = countInversions(input);
+                long newMinimums = countStrictPrefixMinimums(input);
+                return new OperationCounts(inversions + passes - newMinimums, 0, inversions + passes);
+            }
+            default:
+                throw new IllegalArgumentException("No hay modelo de operaciones para: " + algorithmName);
+        }
+    }
+
+    /**
+     * Cuenta las inversiones de un arreglo con Merge Sort.
+     *
+     * @param input arreglo a analizar (no se modifica)
+     * @return el número de pares i &lt; j con input[i] &gt; input[j]
+     */
+    public static long countInversions(int[] input) {
+        int[] work = input.clone();
+        int[] buffer = new int[work.length];
+        long inversions = 0;
+        for (int width = 1; width < work.length; width *= 2) {
+            for (int lo = 0; lo < work.length - width; lo += 2 * width) {
+                int mid = lo + width;
+                int hi = Math.min(lo + 2 * width, work.length);
+                int i = lo;
+                int j = mid;
+                int k = lo;
+                while (i < mid && j < hi) {
+                    if (work[j] < work[i]) {
+                        inversions += mid - i;
+                        buffer[k++] = work[j++];
+                    } else {
+                        buffer[k++] = work[i++];
+                    }
+                }
+                while (i < mid)
+                    buffer[k++] = work[i++];
+                while (j < hi)
+                    buffer[k++] = work[j++];
+                System.arraycopy(buffer, lo, work, lo, hi - lo);
+            }
+        }
+        return inversions;
+    }
+
+    /**
+     * Cuenta los elementos (a partir del segundo) estrictamente menores que
+     * todos los anteriores.
+     *
+     * @param input arreglo a analizar
+     * @return el número de nuevos mínimos estrictos del prefijo
+     */
+    private static long countStrictPrefixMinimums(int[] input) {
+        long count = 0;
+        for (int i = 1, min = input.length > 0 ? input[0] : 0; i < input.length; i++) {
+            if (input[i] < min) {
+                min = input[i];
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,46 @@
+package ec.edu.epn.model;
+
+/**
+ * Algoritmo de ordenamiento con variantes para los demás tipos primitivos
+ * numéricos.
+ *
+ * Cada sobrecarga es una copia especializada del algoritmo para su tipo de
+ * elemento: no hay conversión a objetos ni un {@code Comparator} genérico, así
+ * que cada bucle interno compara primitivos directamente y el JIT lo compila
+ * igual que la versión de {@code int[]}.
+ *
+ * @author
+ * @version 1.0
+ */
+public interface PrimitiveSortAlgorithm extends SortAlgorithm {
+
+    /**
+     * Ordena un arreglo de enteros de 64 bits.
+     *
+     * @param array el arreglo a ordenar
+     */
+    void sort(long[] array);
+
+    /**
+     * Ordena un arreglo de reales con el mismo orden total que
+     * {@link Double#compare}: {@code -0.0} va antes que {@code 0.0} y los
+     * {@code NaN} quedan al final.
+     *
+     * @param array el arreglo a ordenar
+     */
+    void sort(double[] array);
+
+    /**
+     * Ordena un arreglo de enteros de 16 bits.
+     *
+     * @param array el arreglo a ordenar
+     */
+    void sort(short[] array);
+
+    /**
+     * Ordena un arreglo de enteros de 8 bits.
+     *
+     * @param array el arreglo a ordenar
+     */
+    void sort(byte[] array);
+}
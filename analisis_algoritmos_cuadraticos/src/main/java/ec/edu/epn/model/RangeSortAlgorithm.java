@@ -0,0 +1,24 @@
+package ec.edu.epn.model;
+
+/**
+ * Algoritmo de ordenamiento que puede ordenar un tramo de un arreglo sin
+ * copiarlo.
+ *
+ * Permite ordenar muchos segmentos guardados uno tras otro en un único búfer
+ * (ver {@link ec.edu.epn.model.parallel.BatchSort}) sin reservar un arreglo
+ * por segmento.
+ *
+ * @author
+ * @version 1.0
+ */
+public interface RangeSortAlgorithm extends SortAlgorithm {
+
+    /**
+     * Ordena solo el rango {@code [from, to)} del arreglo.
+     *
+     * @param array el arreglo de enteros
+     * @param from  primer índice del rango, incluido
+     * @param to    último índice del rango, excluido
+     */
+    void sort(int[] array, int from, int to);
+}
@@ -0,0 +1,124 @@
+package ec.edu.epn.model;
+
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Ordena registros (objetos) por una clave primitiva usando los algoritmos
+ * cuadráticos, con una organización de estructura de arreglos.
+ *
+ * <p>
+ * En lugar de ordenar un {@code Object[]} con un {@code Comparator}, que en
+ * cada comparación sigue dos referencias y llama a un método virtual, se
+ * extraen las claves a un arreglo primitivo y se ordenan junto con un arreglo
+ * paralelo de índices ({@link KeyedSortAlgorithm}). Al final, una sola pasada
+ * de recolección coloca cada registro en su posición.
+ * </p>
+ *
+ * <p>
+ * Para ordenar por varios campos a la vez se empaquetan en una clave
+ * {@code long} con {@link #packKey(int, int)} o
+ * {@link #packKey(int, short, short)}; comparar las claves empaquetadas
+ * equivale a comparar los campos en orden lexicográfico.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class RecordSort {
+
+    private RecordSort() {
+    }
+
+    /**
+     * Ordena los registros por una clave {@code int}.
+     *
+     * @param <T>       tipo de los registros
+     * @param algorithm algoritmo que ordena las claves
+     * @param records   registros a ordenar, en su lugar
+     * @param key       función que extrae la clave de un registro
+     */
+    public static <T> void sortByInt(KeyedSortAlgorithm algorithm, T[] records, ToIntFunction<? super T> key) {
+        int n = records.length;
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++)
+            keys[i] = key.applyAsInt(records[i]);
+        int[] indices = identity(n);
+        algorithm.sort(keys, indices);
+        gather(records, indices);
+    }
+
+    /**
+     * Ordena los registros por una clave {@code long}, que puede ser una clave
+     * empaquetada con {@link #packKey(int, int)}.
+     *
+     * @param <T>       tipo de los registros
+     * @param algorithm algoritmo que ordena las claves
+     * @param records   registros a ordenar, en su lugar
+     * @param key       función que extrae la clave de un registro
+     */
+    public static <T> void sortByLong(KeyedSortAlgorithm algorithm, T[] records, ToLongFunction<? super T> key) {
+        int n = records.length;
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++)
+            keys[i] = key.applyAsLong(records[i]);
+        int[] indices = identity(n);
+        algorithm.sort(keys, indices);
+        gather(records, indices);
+    }
+
+    /**
+     * Empaqueta dos campos en una clave que ordena primero por
+     * {@code primary} y, a igualdad, por {@code secondary}.
+     *
+     * @param primary   campo principal, en los 32 bits altos
+     * @param secondary campo secundario, en los 32 bits bajos
+     * @return la clave empaquetada
+     */
+    public static long packKey(int primary, int secondary) {
+        // El campo bajo se desplaza al rango sin signo para que los negativos
+        // queden antes que los positivos.
+        return ((long) primary << 32) | ((secondary ^ Integer.MIN_VALUE) & 0xFFFF_FFFFL);
+    }
+
+    /**
+     * Empaqueta tres campos en una clave que ordena por {@code primary}, luego
+     * por {@code secondary} y luego por {@code tertiary}.
+     *
+     * @param primary   campo principal, en los 32 bits altos
+     * @param secondary segundo campo, en los bits 16 a 31
+     * @param tertiary  tercer campo, en los 16 bits bajos
+     * @return la clave empaquetada
+     */
+    public static long packKey(int primary, short secondary, short tertiary) {
+        int low = ((secondary ^ Short.MIN_VALUE) & 0xFFFF) << 16 | ((tertiary ^ Short.MIN_VALUE) & 0xFFFF);
+        return ((long) primary << 32) | (low & 0xFFFF_FFFFL);
+    }
+
+    /**
+     * Crea el arreglo de índices {@code 0, 1, ..., n - 1}.
+     *
+     * @param n longitud
+     * @return los índices en orden
+     */
+    private static int[] identity(int n) {
+        int[] indices = new int[n];
+        for (int i = 0; i < n; i++)
+            indices[i] = i;
+        return indices;
+    }
+
+    /**
+     * Coloca en la posición {@code i} el registro que estaba en
+     * {@code indices[i]}, en una sola pasada sobre una copia.
+     *
+     * @param <T>     tipo de los registros
+     * @param records registros a reordenar
+     * @param indices permutación resultante del ordenamiento
+     */
+    private static <T> void gather(T[] records, int[] indices) {
+        T[] original = records.clone();
+        for (int i = 0; i < records.length; i++)
+            records[i] = original[indices[i]];
+    }
+}
@@ -1,5 +1,8 @@
 package ec.edu.epn.model;
 
+import ec.edu.epn.model.monitoring.SortEvents;
+import ec.edu.epn.model.monitoring.SortPassEvent;
+
 /**
  * Implementación del algoritmo de ordenamiento Selection Sort.
  * 
@@ -12,19 +15,76 @@ package ec.edu.epn.model;
  * @author
  * @version 1.0
  */
-public class SelectionSort implements SortAlgorithm {
+public class SelectionSort
+        implements InstrumentedSortAlgorithm, TraceableSortAlgorithm, PrimitiveSortAlgorithm, KeyedSortAlgorithm,
+        RangeSortAlgorithm {
 
     /**
      * Ordena el arreglo especificado utilizando el algoritmo Selection Sort.
+     * Si Java Flight Recorder está grabando {@link SortPassEvent}, se usa
+     * {@link #sortRecordingPasses(int[])}.
      * 
      * @param array el arreglo de enteros a ordenar
      */
     @Override
     public void sort(int[] array) {
+        if (SortEvents.isPassRecorded()) {
+            sortRecordingPasses(array);
+            return;
+        }
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < n; j++) {
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            int temp = array[minIndex];
+            array[minIndex] = array[i];
+            array[i] = temp;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que graba cada pasada como un
+     * {@link SortPassEvent}.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     */
+    private void sortRecordingPasses(int[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            SortPassEvent pass = new SortPassEvent();
+            pass.begin();
+            int minIndex = i;
+            for (int j = i + 1; j < n; j++) {
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            int temp = array[minIndex];
+            array[minIndex] = array[i];
+            array[i] = temp;
+            pass.end();
+            pass.record(getName(), n, i, n - i - 1);
+        }
+    }
+
+    /**
+     * Variante instrumentada de {@link #sort(int[])}: realiza las mismas
+     * operaciones y las cuenta.
+     * 
+     * @param array  el arreglo de enteros a ordenar
+     * @param counts contadores donde se suman las operaciones
+     */
+    @Override
+    public void sort(int[] array, OperationCounts counts) {
         int n = array.length;
         for (int i = 0; i < n - 1; i++) {
             int minIndex = i;
             for (int j = i + 1; j < n; j++) {
+                counts.comparisons++;
                 if (array[j] < array[minIndex]) {
                     minIndex = j;
                 }
@@ -32,6 +92,195 @@ public class SelectionSort implements SortAlgorithm {
             int temp = array[minIndex];
             array[minIndex] = array[i];
             array[i] = temp;
+            counts.swaps++;
+            counts.writes += 2;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que graba cada comparación e
+     * intercambio en el registro.
+     * 
+     * @param array el arreglo de enteros a ordenar
+     * @param trace registro donde se añaden los eventos
+     */
+    @Override
+    public void sort(int[] array, SortTrace trace) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < n; j++) {
+                trace.compare(j, minIndex);
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            int temp = array[minIndex];
+            array[minIndex] = array[i];
+            array[i] = temp;
+            trace.swap(i, minIndex);
+        }
+    }
+
+    /**
+     * Ordena solo el rango {@code [from, to)} del arreglo.
+     * 
+     * @param array el arreglo de enteros
+     * @param from  primer índice del rango, incluido
+     * @param to    último índice del rango, excluido
+     */
+    @Override
+    public void sort(int[] array, int from, int to) {
+        for (int i = from; i < to - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < to; j++) {
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            int temp = array[minIndex];
+            array[minIndex] = array[i];
+            array[i] = temp;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code long[]}.
+     * 
+     * @param array el arreglo a ordenar
+     */
+    @Override
+    public void sort(long[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < n; j++) {
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            long temp = array[minIndex];
+            array[minIndex] = array[i];
+            array[i] = temp;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code double[]}. Los {@code NaN}
+     * se apartan al final antes de ordenar y los ceros con signo se ajustan
+     * después, así que el bucle compara con {@code <} y {@code >} igual que
+     * la versión de enteros.
+     * 
+     * @param array el arreglo de reales a ordenar
+     */
+    @Override
+    public void sort(double[] array) {
+        int n = DoubleOrdering.moveNaNsToEnd(array);
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < n; j++) {
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            double temp = array[minIndex];
+            array[minIndex] = array[i];
+            array[i] = temp;
+        }
+        DoubleOrdering.orderSignedZeros(array, n);
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code short[]}.
+     * 
+     * @param array el arreglo a ordenar
+     */
+    @Override
+    public void sort(short[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < n; j++) {
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            short temp = array[minIndex];
+            array[minIndex] = array[i];
+            array[i] = temp;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} para {@code byte[]}.
+     * 
+     * @param array el arreglo a ordenar
+     */
+    @Override
+    public void sort(byte[] array) {
+        int n = array.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < n; j++) {
+                if (array[j] < array[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            byte temp = array[minIndex];
+            array[minIndex] = array[i];
+            array[i] = temp;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que ordena claves {@code int} moviendo
+     * los índices paralelos junto con ellas.
+     * 
+     * @param keys    claves a ordenar
+     * @param indices índices que acompañan a cada clave
+     */
+    @Override
+    public void sort(int[] keys, int[] indices) {
+        int n = keys.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < n; j++) {
+                if (keys[j] < keys[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            int temp = keys[minIndex];
+            keys[minIndex] = keys[i];
+            keys[i] = temp;
+            int index = indices[minIndex];
+            indices[minIndex] = indices[i];
+            indices[i] = index;
+        }
+    }
+
+    /**
+     * Variante de {@link #sort(int[])} que ordena claves {@code long} moviendo
+     * los índices paralelos junto con ellas.
+     * 
+     * @param keys    claves a ordenar
+     * @param indices índices que acompañan a cada clave
+     */
+    @Override
+    public void sort(long[] keys, int[] indices) {
+        int n = keys.length;
+        for (int i = 0; i < n - 1; i++) {
+            int minIndex = i;
+            for (int j = i + 1; j < n; j++) {
+                if (keys[j] < keys[minIndex]) {
+                    minIndex = j;
+                }
+            }
+            long temp = keys[minIndex];
+            keys[minIndex] = keys[i];
+            keys[i] = temp;
+            int index = indices[minIndex];
+            indices[minIndex] = indices[i];
+            indices[i] = index;
         }
     }
 
@@ -0,0 +1,118 @@
+package ec.edu.epn.model;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Registro de los algoritmos de ordenamiento disponibles en la aplicación.
+ *
+ * Permite obtener una instancia nueva de cada {@link SortAlgorithm} a partir
+ * de su nombre ({@link SortAlgorithm#getName()}), de modo que la interfaz,
+ * los benchmarks y cualquier otra herramienta de medición trabajen siempre
+ * sobre el mismo conjunto de algoritmos.
+ *
+ * Los algoritmos forman dos familias: las versiones clásicas de libro de texto
+ * y sus variantes optimizadas, que reducen el factor constante. En esta
+ * familia está también {@link HybridSort}, que usa Insertion Sort solo por
+ * debajo de un umbral calibrado y deja de ser cuadrático.
+ *
+ * Cada algoritmo se registra con su nombre, sin crear ninguna instancia: así
+ * consultar los nombres (por ejemplo para la ayuda de la línea de comandos)
+ * no ejecuta la calibración de {@link HybridSort}, que solo ocurre al crear
+ * el primero.
+ *
+ * @author
+ * @version 1.0
+ */
+public final class SortAlgorithms {
+
+    /** Fábricas de algoritmos indexadas por nombre, en orden de registro */
+    private static final Map<String, Supplier<SortAlgorithm>> REGISTRY = new LinkedHashMap<>();
+
+    /** Nombres de los algoritmos de la familia optimizada */
+    private static final Set<String> OPTIMIZED = new HashSet<>();
+
+    static {
+        register("Bubble Sort", BubbleSort::new);
+        register("Selection Sort", SelectionSort::new);
+        register("Insertion Sort", InsertionSort::new);
+
+        registerOptimized("Bubble Sort (salida temprana)", EarlyExitBubbleSort::new);
+        registerOptimized("Cocktail Shaker Sort", CocktailShakerSort::new);
+        registerOptimized("Selection Sort (doble)", DoubleSelectionSort::new);
+        registerOptimized("Binary Insertion Sort", BinaryInsertionSort::new);
+        registerOptimized("Hybrid Sort", HybridSort::new);
+    }
+
+    private SortAlgorithms() {
+    }
+
+    /**
+     * Registra un algoritmo sin crear ninguna instancia.
+     *
+     * @param name    nombre del algoritmo; debe coincidir con el que devuelve
+     *                {@link SortAlgorithm#getName()}
+     * @param factory fábrica que crea instancias del algoritmo
+     */
+    private static void register(String name, Supplier<SortAlgorithm> factory) {
+        REGISTRY.put(name, factory);
+    }
+
+    /**
+     * Registra un algoritmo de la familia optimizada.
+     *
+     * @param name    nombre del algoritmo
+     * @param factory fábrica que crea instancias del algoritmo
+     */
+    private static void registerOptimized(String name, Supplier<SortAlgorithm> factory) {
+        register(name, factory);
+        OPTIMIZED.add(name);
+    }
+
+    /**
+     * Indica si un algoritmo pertenece a la familia de variantes optimizadas.
+     *
+     * @param name nombre del algoritmo
+     * @return {@code true} si es una variante optimizada
+     */
+    public static boolean isOptimized(String name) {
+        return OPTIMIZED.contains(name);
+    }
+
+    /**
+     * Devuelve los nombres de todos los algoritmos registrados.
+     *
+     * @return lista inmutable de nombres en orden de registro
+     */
+    public static List<String> names() {
+        return List.copyOf(REGISTRY.keySet());
+    }
+
+    /**
+     * Crea una instancia nueva de cada algoritmo registrado.
+     *
+     * @return lista con una instancia por algoritmo
+     */
+    public static List<SortAlgorithm> all() {
+        return REGISTRY.values().stream().map(Supplier::get).toList();
+    }
+
+    /**
+     * Crea una instancia del algoritmo con el nombre indicado.
+     *
+     * @param name nombre del algoritmo, por ejemplo "Bubble Sort"
+     * @return una instancia nueva del algoritmo
+     * @throws IllegalArgumentException si no existe un algoritmo con ese nombre
+     */
+    public static SortAlgorithm byName(String name) {
+        Supplier<SortAlgorithm> factory = REGISTRY.get(name);
+        if (factory == null) {
+            throw new IllegalArgumentException("Algoritmo desconocido: " + name);
+        }
+        return factory.get();
+    }
+}
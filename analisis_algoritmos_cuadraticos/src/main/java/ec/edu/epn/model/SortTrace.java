@@ -0,0 +1,139 @@
+package ec.edu.epn.model;
+
+import java.util.Arrays;
+
+/**
+ * Registro compacto de los eventos de un ordenamiento (comparaciones,
+ * intercambios y escrituras), guardado en un arreglo de enteros que crece
+ * según se necesita.
+ *
+ * Cada evento ocupa tres enteros consecutivos: el tipo y dos operandos.
+ * <ul>
+ * <li>{@link #COMPARE}: índices de los dos elementos comparados.</li>
+ * <li>{@link #SWAP}: índices de los dos elementos intercambiados.</li>
+ * <li>{@link #WRITE}: índice escrito y valor almacenado.</li>
+ * </ul>
+ * El algoritmo se ejecuta una sola vez a velocidad completa grabando los
+ * eventos, y la animación los reproduce después al ritmo que quiera.
+ *
+ * @author
+ * @version 1.0
+ */
+public final class SortTrace {
+
+    /** Comparación entre dos posiciones */
+    public static final int COMPARE = 0;
+
+    /** Intercambio de dos posiciones */
+    public static final int SWAP = 1;
+
+    /** Escritura de un valor en una posición */
+    public static final int WRITE = 2;
+
+    /** Enteros que ocupa cada evento */
+    private static final int EVENT_WIDTH = 3;
+
+    /** Eventos codificados: tipo, operando A, operando B */
+    private int[] events = new int[EVENT_WIDTH * 64];
+
+    /** Número de eventos registrados */
+    private int count;
+
+    /** Número máximo de eventos que se guardan */
+    private final int maxEvents;
+
+    /** Indica si se descartaron eventos por superar el máximo */
+    private boolean truncated;
+
+    /**
+     * Crea un registro que guarda como máximo {@code maxEvents} eventos; los
+     * siguientes se descartan y el registro queda marcado como truncado. El
+     * máximo se limita a lo que cabe en un arreglo de Java.
+     *
+     * @param maxEvents número máximo de eventos a guardar
+     */
+    public SortTrace(int maxEvents) {
+        this.maxEvents = Math.min(maxEvents, (Integer.MAX_VALUE - 8) / EVENT_WIDTH);
+    }
+
+    /**
+     * Registra una comparación entre las posiciones {@code i} y {@code j}.
+     *
+     * @param i primera posición
+     * @param j segunda posición
+     */
+    public void compare(int i, int j) {
+        append(COMPARE, i, j);
+    }
+
+    /**
+     * Registra un intercambio entre las posiciones {@code i} y {@code j}.
+     *
+     * @param i primera posición
+     * @param j segunda posición
+     */
+    public void swap(int i, int j) {
+        append(SWAP, i, j);
+    }
+
+    /**
+     * Registra la escritura de {@code value} en la posición {@code index}.
+     *
+     * @param index posición escrita
+     * @param value valor almacenado
+     */
+    public void write(int index, int value) {
+        append(WRITE, index, value);
+    }
+
+    private void append(int type, int a, int b) {
+        if (count == maxEvents) {
+            truncated = true;
+            return;
+        }
+        int offset = count * EVENT_WIDTH;
+        if (offset == events.length) {
+            events = Arrays.copyOf(events, (int) Math.min((long) events.length * 2, maxEvents * EVENT_WIDTH));
+        }
+        events[offset] = type;
+        events[offset + 1] = a;
+        events[offset + 2] = b;
+        count++;
+    }
+
+    /** @return el número de eventos registrados */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param event índice del evento
+     * @return el tipo del evento ({@link #COMPARE}, {@link #SWAP} o {@link #WRITE})
+     */
+    public int type(int event) {
+        return events[event * EVENT_WIDTH];
+    }
+
+    /**
+     * @param event índice del evento
+     * @return el primer operando (siempre un índice del arreglo)
+     */
+    public int first(int event) {
+        return events[event * EVENT_WIDTH + 1];
+    }
+
+    /**
+     * @param event índice del evento
+     * @return el segundo operando (un índice, o el valor escrito en {@link #WRITE})
+     */
+    public int second(int event) {
+        return events[event * EVENT_WIDTH + 2];
+    }
+
+    /**
+     * @return {@code true} si se descartaron eventos por superar el máximo
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,206 @@
+package ec.edu.epn.model;
+
+import java.util.Arrays;
+
+/**
+ * Ordenamiento de arreglos pequeños con redes de ordenamiento de Batcher
+ * (odd-even merge sort) de 8, 16 y 32 entradas.
+ *
+ * <p>
+ * Una red es una lista fija de pares {@code (i, j)} que se comparan e
+ * intercambian siempre en el mismo orden, sea cual sea la entrada. Cada
+ * comparación-intercambio se escribe con {@code Math.min} y
+ * {@code Math.max}, que el JIT traduce a instrucciones sin saltos, por lo que
+ * no hay predicciones de salto fallidas como en el bucle interno de
+ * {@link InsertionSort} con datos aleatorios.
+ * </p>
+ *
+ * <p>
+ * Un rango de longitud n se ordena con la red más pequeña de al menos n
+ * entradas, como si las posiciones sobrantes tuvieran {@code +∞}: los pares
+ * que tocan esas posiciones no cambian nada y se descartan al construir la
+ * red, así que no hace falta copiar el rango a un búfer.
+ * </p>
+ *
+ * <p>
+ * Las redes son el caso base de los rangos de más de {@value #MAX_NETWORK}
+ * elementos: el rango se parte en bloques de {@value #MAX_NETWORK} que se
+ * ordenan con la red, y luego cada bloque se inserta en el prefijo ya
+ * ordenado con una mezcla hacia atrás, como hace {@link InsertionSort} con un
+ * elemento pero con el bloque entero. Cada elemento del prefijo mayor que el
+ * mínimo del bloque se mueve una sola vez por bloque, en lugar de una vez por
+ * cada elemento insertado.
+ * </p>
+ *
+ * Complejidad temporal: O(n log² n) comparaciones hasta
+ * {@value #MAX_NETWORK} elementos; por encima, O(n^2 / {@value #MAX_NETWORK})
+ * movimientos en el peor caso y O(n) con la entrada ya ordenada. Los rangos
+ * largos usan un búfer auxiliar de {@value #MAX_NETWORK} enteros por hilo,
+ * que se reutiliza, así que ordenar no reserva memoria.
+ *
+ * @author
+ * @version 1.0
+ */
+public class SortingNetworkSort implements RangeSortAlgorithm {
+
+    /** Mayor red disponible */
+    public static final int MAX_NETWORK = 32;
+
+    /** Menor red disponible; los rangos más cortos usan esta */
+    private static final int MIN_NETWORK = 8;
+
+    /** Primer índice de cada par, por longitud de rango */
+    private static final int[][] LOW = new int[MAX_NETWORK + 1][];
+
+    /** Segundo índice de cada par, por longitud de rango */
+    private static final int[][] HIGH = new int[MAX_NETWORK + 1][];
+
+    /** Búfer de cada hilo para mezclar un bloque con el prefijo ordenado */
+    private static final ThreadLocal<int[]> BLOCK = ThreadLocal.withInitial(() -> new int[MAX_NETWORK]);
+
+    static {
+        for (int length = 0; length <= MAX_NETWORK; length++) {
+            int size = MIN_NETWORK;
+            while (size < length)
+                size <<= 1;
+            buildNetwork(size, length);
+        }
+    }
+
+    /**
+     * Ordena el arreglo especificado con una red de ordenamiento.
+     *
+     * @param array el arreglo de enteros a ordenar
+     */
+    @Override
+    public void sort(int[] array) {
+        sort(array, 0, array.length);
+    }
+
+    /**
+     * Ordena solo el rango {@code [from, to)} del arreglo.
+     *
+     * @param array el arreglo de enteros
+     * @param from  primer índice del rango, incluido
+     * @param to    último índice del rango, excluido
+     */
+    @Override
+    public void sort(int[] array, int from, int to) {
+        int length = to - from;
+        if (length > MAX_NETWORK) {
+            sortBlocks(array, from, to);
+            return;
+        }
+        sortNetwork(array, from, length);
+    }
+
+    /**
+     * Ordena un rango de más de {@value #MAX_NETWORK} elementos: ordena cada
+     * bloque con la red y lo mezcla con el prefijo ya ordenado.
+     *
+     * @param array el arreglo de enteros
+     * @param from  primer índice del rango, incluido
+     * @param to    último índice del rango, excluido
+     */
+    private static void sortBlocks(int[] array, int from, int to) {
+        int[] block = BLOCK.get();
+        sortNetwork(array, from, MAX_NETWORK);
+        for (int start = from + MAX_NETWORK; start < to; start += MAX_NETWORK) {
+            int end = Math.min(start + MAX_NETWORK, to);
+            sortNetwork(array, start, end - start);
+            if (array[start - 1] <= array[start])
+                continue;
+
+            // Mezcla hacia atrás: el bloque sale al búfer y el prefijo se
+            // desplaza solo lo necesario
+            int size = end - start;
+            System.arraycopy(array, start, block, 0, size);
+            int i = start - 1;
+            int j = size - 1;
+            int k = end - 1;
+            while (j >= 0) {
+                if (i >= from && array[i] > block[j])
+                    array[k--] = array[i--];
+                else
+                    array[k--] = block[j--];
+            }
+        }
+    }
+
+    /**
+     * Aplica la red de la longitud indicada al rango que empieza en
+     * {@code from}.
+     *
+     * @param array  el arreglo de enteros
+     * @param from   primer índice del rango
+     * @param length longitud del rango, hasta {@value #MAX_NETWORK}
+     */
+    private static void sortNetwork(int[] array, int from, int length) {
+        int[] low = LOW[length];
+        int[] high = HIGH[length];
+        for (int c = 0; c < low.length; c++) {
+            int i = from + low[c];
+            int j = from + high[c];
+            int a = array[i];
+            int b = array[j];
+            array[i] = Math.min(a, b);
+            array[j] = Math.max(a, b);
+        }
+    }
+
+    /**
+     * Devuelve el número de comparaciones que hace la red para un rango de la
+     * longitud indicada.
+     *
+     * @param length longitud del rango, hasta {@value #MAX_NETWORK}
+     * @return el número de pares de la red
+     * @throws IllegalArgumentException si la longitud está fuera de rango
+     */
+    public static int comparators(int length) {
+        if (length < 0 || length > MAX_NETWORK) {
+            throw new IllegalArgumentException("Longitud sin red: " + length);
+        }
+        return LOW[length].length;
+    }
+
+    /**
+     * Construye la red de Batcher de {@code size} entradas y conserva solo los
+     * pares que caen dentro de las primeras {@code length} posiciones.
+     *
+     * @param size   entradas de la red, potencia de dos
+     * @param length longitud de rango para la que se guarda la red
+     */
+    private static void buildNetwork(int size, int length) {
+        int[] low = new int[size * size];
+        int[] high = new int[size * size];
+        int count = 0;
+        for (int p = 1; p < size; p <<= 1) {
+            for (int k = p; k >= 1; k >>= 1) {
+                for (int j = k % p; j + k < size; j += 2 * k) {
+                    for (int i = 0; i < k && i + j + k < size; i++) {
+                        int a = i + j;
+                        int b = i + j + k;
+                        // Solo se comparan elementos del mismo bloque de 2p
+                        if (a / (2 * p) == b / (2 * p) && b < length) {
+                            low[count] = a;
+                            high[count] = b;
+                            count++;
+                        }
+                    }
+                }
+            }
+        }
+        LOW[length] = Arrays.copyOf(low, count);
+        HIGH[length] = Arrays.copyOf(high, count);
+    }
+
+    /**
+     * Devuelve el nombre del algoritmo.
+     *
+     * @return el nombre "Sorting Network"
+     */
+    @Override
+    public String getName() {
+        return "Sorting Network";
+    }
+}
@@ -0,0 +1,22 @@
+package ec.edu.epn.model;
+
+/**
+ * Algoritmo de ordenamiento capaz de grabar sus operaciones en un
+ * {@link SortTrace} para reproducirlas después (por ejemplo, en la animación).
+ *
+ * Igual que {@link InstrumentedSortAlgorithm}, es una variante especializada:
+ * {@link #sort(int[])} no registra nada.
+ *
+ * @author
+ * @version 1.0
+ */
+public interface TraceableSortAlgorithm extends SortAlgorithm {
+
+    /**
+     * Ordena el arreglo registrando cada comparación, intercambio y escritura.
+     *
+     * @param array el arreglo de enteros a ordenar
+     * @param trace registro donde se añaden los eventos
+     */
+    void sort(int[] array, SortTrace trace);
+}
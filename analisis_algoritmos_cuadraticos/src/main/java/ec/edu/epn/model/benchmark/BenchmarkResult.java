@@ -0,0 +1,188 @@
+package ec.edu.epn.model.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Resultado de medir un algoritmo sobre una configuración (tipo de lista y
+ * tamaño): las muestras de tiempo individuales en nanosegundos y su resumen
+ * estadístico ({@link SampleStatistics}).
+ *
+ * Las muestras pueden llevar la {@link RunPhase} en que se tomaron; en ese
+ * caso el resumen y el mínimo se calculan solo con las estables (o con todas
+ * si ninguna lo es). Si además llevan sus
+ * {@link RunCosts}, se descartan también las que se solaparon con una
+ * recolección de basura.
+ *
+ * @author
+ * @version 1.0
+ */
+public class BenchmarkResult {
+
+    private final String algorithmName;
+    private final String listType;
+    private final int size;
+    private final long[] sampleNanos;
+    private final RunPhase[] phases;
+    private final RunCosts costs;
+    private final long[] steadyNanos;
+    private SampleStatistics statistics;
+
+    /**
+     * Crea un resultado.
+     *
+     * @param algorithmName nombre del algoritmo
+     * @param listType      tipo de lista de entrada
+     * @param size          número de elementos
+     * @param sampleNanos   tiempo de cada ejecución medida, en nanosegundos
+     */
+    public BenchmarkResult(String algorithmName, String listType, int size, long[] sampleNanos) {
+        this(algorithmName, listType, size, sampleNanos, null);
+    }
+
+    /**
+     * Crea un resultado con la fase de cada muestra.
+     *
+     * @param algorithmName nombre del algoritmo
+     * @param listType      tipo de lista de entrada
+     * @param size          número de elementos
+     * @param sampleNanos   tiempo de cada ejecución, en nanosegundos
+     * @param phases        fase de cada ejecución, o {@code null} si todas son
+     *                      estables
+     * @throws IllegalArgumentException si hay distinto número de fases que de
+     *                                  muestras
+     */
+    public BenchmarkResult(String algorithmName, String listType, int size, long[] sampleNanos, RunPhase[] phases) {
+        this(algorithmName, listType, size, sampleNanos, phases, null);
+    }
+
+    /**
+     * Crea un resultado con la fase y los costos de memoria de cada muestra.
+     *
+     * @param algorithmName nombre del algoritmo
+     * @param listType      tipo de lista de entrada
+     * @param size          número de elementos
+     * @param sampleNanos   tiempo de cada ejecución, en nanosegundos
+     * @param phases        fase de cada ejecución, o {@code null} si todas son
+     *                      estables
+     * @param costs         memoria reservada y recolecciones de cada
+     *                      ejecución, o {@code null} si no se midieron
+     * @throws IllegalArgumentException si hay distinto número de fases o de
+     *                                  costos que de muestras
+     */
+    public BenchmarkResult(String algorithmName, String listType, int size, long[] sampleNanos, RunPhase[] phases,
+            RunCosts costs) {
+        if (phases != null && phases.length != sampleNanos.length) {
+            throw new IllegalArgumentException("Hay " + phases.length + " fases para " + sampleNanos.length
+                    + " muestras");
+        }
+        if (costs != null && costs.size() != sampleNanos.length) {
+            throw new IllegalArgumentException("Hay " + costs.size() + " costos para " + sampleNanos.length
+                    + " muestras");
+        }
+        this.algorithmName = algorithmName;
+        this.listType = listType;
+        this.size = size;
+        this.sampleNanos = sampleNanos;
+        this.phases = phases;
+        this.costs = costs;
+        this.steadyNanos = steady(sampleNanos, phases, costs);
+    }
+
+    /**
+     * @param sampleNanos muestras
+     * @param phases      fase de cada muestra, o {@code null}
+     * @param costs       costos de cada muestra, o {@code null}
+     * @return las muestras estables y sin recolecciones, o todas si ninguna
+     *         lo es
+     */
+    private static long[] steady(long[] sampleNanos, RunPhase[] phases, RunCosts costs) {
+        if (phases == null && costs == null) {
+            return sampleNanos;
+        }
+        long[] steady = new long[sampleNanos.length];
+        int count = 0;
+        for (int i = 0; i < sampleNanos.length; i++) {
+            if ((phases == null || phases[i] == RunPhase.STEADY) && (costs == null || !costs.overlapsGc(i)))
+                steady[count++] = sampleNanos[i];
+        }
+        return count == 0 ? sampleNanos : Arrays.copyOf(steady, count);
+    }
+
+    /** @return el nombre del algoritmo */
+    public String getAlgorithmName() {
+        return algorithmName;
+    }
+
+    /** @return el tipo de lista de entrada */
+    public String getListType() {
+        return listType;
+    }
+
+    /** @return el número de elementos */
+    public int getSize() {
+        return size;
+    }
+
+    /** @return una copia de las muestras en nanosegundos */
+    public long[] getSampleNanos() {
+        return sampleNanos.clone();
+    }
+
+    /**
+     * @param index índice de la muestra
+     * @return la fase en que se tomó la muestra
+     */
+    public RunPhase getPhase(int index) {
+        return phases == null ? RunPhase.STEADY : phases[index];
+    }
+
+    /** @return {@code true} si las muestras llevan su fase */
+    public boolean hasPhases() {
+        return phases != null;
+    }
+
+    /**
+     * @return la memoria reservada y las recolecciones de cada muestra, o
+     *         {@code null} si no se midieron
+     */
+    public RunCosts getCosts() {
+        return costs;
+    }
+
+    /**
+     * @return el número de ejecuciones registradas, incluidas las de
+     *         calentamiento; las que entran en el resumen son
+     *         {@code getStatistics().getCount()}
+     */
+    public int getSampleCount() {
+        return sampleNanos.length;
+    }
+
+    /**
+     * Devuelve el resumen estadístico de las muestras, calculado la primera
+     * vez que se pide.
+     *
+     * @return media, mediana, percentiles e intervalo de confianza sin
+     *         atípicos
+     */
+    public synchronized SampleStatistics getStatistics() {
+        if (statistics == null) {
+            statistics = SampleStatistics.of(steadyNanos);
+        }
+        return statistics;
+    }
+
+    /**
+     * Devuelve el tiempo mínimo de las muestras estables, sin descartar
+     * atípicos: el menos afectado por interrupciones, para comparaciones por
+     * mínimo. Los resúmenes exportados usan {@link #getStatistics()}.
+     *
+     * @return el tiempo mínimo en milisegundos
+     */
+    public double getMinMillis() {
+        long min = Long.MAX_VALUE;
+        for (long sample : steadyNanos)
+            min = Math.min(min, sample);
+        return steadyNanos.length == 0 ? 0 : min / 1_000_000.0;
+    }
+}
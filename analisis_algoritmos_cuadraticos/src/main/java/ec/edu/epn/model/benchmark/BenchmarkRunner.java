@@ -0,0 +1,192 @@
+package ec.edu.epn.model.benchmark;
+
+import ec.edu.epn.model.DataGenerator;
+import ec.edu.epn.model.DatasetCache;
+import ec.edu.epn.model.InputShapes;
+import ec.edu.epn.model.SortAlgorithm;
+import ec.edu.epn.model.monitoring.SortEvents;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Ejecuta mediciones de algoritmos de ordenamiento sobre todas las
+ * combinaciones de tamaño y tipo de lista, sin depender de la interfaz.
+ *
+ * Para cada combinación se genera una única entrada (con semilla fija) que
+ * comparten todos los algoritmos; con un {@link DatasetCache} la entrada se
+ * lee del disco en lugar de regenerarse. Cada configuración se mide con un
+ * {@link MeasurementEngine}, igual que en la interfaz: el calentamiento se
+ * detiene al alcanzar el régimen estable, y cada ejecución queda etiquetada
+ * con su {@link RunPhase} y sus {@link RunCosts}. Al terminar se comprueba que
+ * el resultado esté ordenado.
+ *
+ * @author
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+
+    /** Presupuesto de tiempo por configuración si no se indica, en milisegundos */
+    public static final double DEFAULT_BUDGET_MS = 2_000;
+
+    /** Motor que mide cada configuración */
+    private final MeasurementEngine engine;
+
+    /** Generador de las entradas */
+    private final DataGenerator generator;
+
+    /** Almacén de entradas en disco, o {@code null} para generarlas siempre */
+    private final DatasetCache cache;
+
+    /**
+     * Crea un ejecutor de mediciones con el presupuesto por defecto.
+     *
+     * @param warmupRuns ejecuciones máximas de calentamiento por configuración
+     * @param repeats    ejecuciones medidas por configuración (mayor que 0)
+     * @param seed       semilla de las entradas
+     * @throws IllegalArgumentException si el número de ejecuciones no es válido
+     */
+    public BenchmarkRunner(int warmupRuns, int repeats, long seed) {
+        this(warmupRuns, repeats, new DataGenerator(seed));
+    }
+
+    /**
+     * Crea un ejecutor de mediciones con un generador de entradas propio y el
+     * presupuesto por defecto.
+     *
+     * @param warmupRuns ejecuciones máximas de calentamiento por configuración
+     * @param repeats    ejecuciones medidas por configuración (mayor que 0)
+     * @param generator  generador de las entradas
+     * @throws IllegalArgumentException si el número de ejecuciones no es válido
+     */
+    public BenchmarkRunner(int warmupRuns, int repeats, DataGenerator generator) {
+        this(new MeasurementEngine(warmupRuns, repeats, repeats, DEFAULT_BUDGET_MS), generator, null);
+    }
+
+    /**
+     * Crea un ejecutor de mediciones con el motor y el generador indicados.
+     *
+     * @param engine    motor que mide cada configuración
+     * @param generator generador de las entradas
+     */
+    public BenchmarkRunner(MeasurementEngine engine, DataGenerator generator) {
+        this(engine, generator, null);
+    }
+
+    /**
+     * Crea un ejecutor de mediciones que lee las entradas de un almacén en
+     * disco, generándolas solo la primera vez.
+     *
+     * @param engine motor que mide cada configuración
+     * @param cache  almacén de las entradas
+     */
+    public BenchmarkRunner(MeasurementEngine engine, DatasetCache cache) {
+        this(engine, cache.getGenerator(), cache);
+    }
+
+    private BenchmarkRunner(MeasurementEngine engine, DataGenerator generator, DatasetCache cache) {
+        this.engine = engine;
+        this.generator = generator;
+        this.cache = cache;
+    }
+
+    /**
+     * Mide cada algoritmo sobre cada combinación de tipo de lista y tamaño.
+     *
+     * @param algorithms algoritmos a medir
+     * @param sizes      tamaños de arreglo
+     * @param listTypes  tipos de lista (ver {@link InputShapes#LIST_TYPES})
+     * @return un resultado por algoritmo, tipo de lista y tamaño
+     * @throws IllegalStateException si un algoritmo no deja el arreglo ordenado
+     */
+    public List<BenchmarkResult> run(List<SortAlgorithm> algorithms, int[] sizes, List<String> listTypes) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        run(algorithms, sizes, listTypes, results::add);
+        return results;
+    }
+
+    /**
+     * Mide cada algoritmo sobre cada combinación de tipo de lista y tamaño,
+     * entregando cada resultado en cuanto se termina de medir (por ejemplo a
+     * un {@link ExcelResultExporter}).
+     *
+     * @param algorithms algoritmos a medir
+     * @param sizes      tamaños de arreglo
+     * @param listTypes  tipos de lista (ver {@link InputShapes#LIST_TYPES})
+     * @param onResult   receptor de cada resultado
+     * @throws IllegalStateException si un algoritmo no deja el arreglo ordenado
+     * @throws UncheckedIOException  si falla la lectura del almacén de entradas
+     */
+    public void run(List<SortAlgorithm> algorithms, int[] sizes, List<String> listTypes,
+            Consumer<BenchmarkResult> onResult) {
+        String previousShape = SortEvents.inputShape();
+        try {
+            runAll(algorithms, sizes, listTypes, onResult);
+        } finally {
+            SortEvents.setInputShape(previousShape);
+        }
+    }
+
+    /**
+     * Cuerpo de {@link #run(List, int[], List, Consumer)}: declara el tipo de
+     * lista de cada configuración para los eventos de Java Flight Recorder y
+     * mide cada algoritmo con el motor, que graba los eventos y alimenta las
+     * métricas JMX.
+     *
+     * @param algorithms algoritmos a medir
+     * @param sizes      tamaños de arreglo
+     * @param listTypes  tipos de lista
+     * @param onResult   receptor de cada resultado
+     */
+    private void runAll(List<SortAlgorithm> algorithms, int[] sizes, List<String> listTypes,
+            Consumer<BenchmarkResult> onResult) {
+        for (String listType : listTypes) {
+            SortEvents.setInputShape(listType);
+            for (int size : sizes) {
+                int[] input = input(listType, size);
+                int[] work = new int[size];
+                for (SortAlgorithm algorithm : algorithms) {
+                    Measurement measurement = engine.measure(algorithm, input, work);
+                    checkSorted(algorithm, work);
+                    onResult.accept(new BenchmarkResult(algorithm.getName(), listType, size,
+                            measurement.getRunNanos(), measurement.getPhases(), measurement.getCosts()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtiene la entrada de una configuración, del almacén si lo hay.
+     *
+     * @param listType tipo de lista
+     * @param size     número de elementos
+     * @return el arreglo de entrada
+     */
+    private int[] input(String listType, int size) {
+        if (cache == null) {
+            return generator.generate(listType, size);
+        }
+        try {
+            return cache.load(listType, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Comprueba que el arreglo quedó ordenado.
+     *
+     * @param algorithm algoritmo que lo ordenó
+     * @param array     arreglo resultante
+     */
+    private static void checkSorted(SortAlgorithm algorithm, int[] array) {
+        for (int i = 1; i < array.length; i++) {
+            if (array[i - 1] > array[i]) {
+                throw new IllegalStateException(algorithm.getName() + " no ordenó el arreglo (posición " + i + ")");
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package ec.edu.epn.model.benchmark;
+
+import ec.edu.epn.model.BranchlessBubbleSort;
+import ec.edu.epn.model.BranchlessSelectionSort;
+import ec.edu.epn.model.BubbleSort;
+import ec.edu.epn.model.InputShapes;
+import ec.edu.epn.model.SelectionSort;
+import ec.edu.epn.model.SortAlgorithm;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Mide el costo de las predicciones de salto fallidas comparando Bubble Sort y
+ * Selection Sort con sus variantes sin saltos ({@link BranchlessBubbleSort},
+ * {@link BranchlessSelectionSort}) sobre los mismos tipos de lista.
+ *
+ * <p>
+ * Ambas versiones hacen las mismas comparaciones; solo cambia si el resultado
+ * de cada una decide un salto. Con una lista ordenada el salto se predice
+ * siempre bien y la versión con saltos suele ganar, porque no escribe nada;
+ * con una lista aleatoria se predice mal cerca de la mitad de las veces y la
+ * diferencia de tiempos es el costo de esas predicciones fallidas.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class BranchCostComparison {
+
+    /**
+     * Resultado de comparar una pareja de algoritmos sobre una configuración.
+     *
+     * @param algorithm        nombre de la versión con saltos
+     * @param listType         tipo de lista de entrada
+     * @param size             número de elementos
+     * @param branchyMillis    tiempo mínimo de la versión con saltos
+     * @param branchlessMillis tiempo mínimo de la versión sin saltos
+     */
+    public record Entry(String algorithm, String listType, int size, double branchyMillis,
+            double branchlessMillis) {
+
+        /**
+         * @return cuántas veces más rápida es la versión sin saltos (menor que
+         *         1 si es más lenta)
+         */
+        public double speedup() {
+            return branchlessMillis == 0 ? 0 : branchyMillis / branchlessMillis;
+        }
+    }
+
+    private BranchCostComparison() {
+    }
+
+    /**
+     * Mide las dos parejas de algoritmos sobre cada tipo de lista y tamaño.
+     * Se usa el tiempo mínimo de cada configuración, el menos afectado por
+     * interrupciones del sistema.
+     *
+     * @param runner    ejecutor de mediciones
+     * @param sizes     tamaños de arreglo
+     * @param listTypes tipos de lista (ver {@link InputShapes#LIST_TYPES})
+     * @return una entrada por pareja, tipo de lista y tamaño
+     */
+    public static List<Entry> measure(BenchmarkRunner runner, int[] sizes, List<String> listTypes) {
+        SortAlgorithm[][] pairs = {
+                { new BubbleSort(), new BranchlessBubbleSort() },
+                { new SelectionSort(), new BranchlessSelectionSort() } };
+        List<SortAlgorithm> algorithms = new ArrayList<>();
+        Map<String, String> branchyOf = new HashMap<>();
+        for (SortAlgorithm[] pair : pairs) {
+            algorithms.add(pair[0]);
+            algorithms.add(pair[1]);
+            branchyOf.put(pair[1].getName(), pair[0].getName());
+        }
+
+        // El ejecutor entrega cada configuración en el orden de la lista, así
+        // que la versión con saltos siempre llega antes que su pareja
+        List<Entry> entries = new ArrayList<>();
+        Map<String, BenchmarkResult> pending = new HashMap<>();
+        runner.run(algorithms, sizes, listTypes, result -> {
+            String branchy = branchyOf.get(result.getAlgorithmName());
+            if (branchy == null) {
+                pending.put(result.getAlgorithmName(), result);
+                return;
+            }
+            BenchmarkResult base = pending.remove(branchy);
+            entries.add(new Entry(branchy, result.getListType(), result.getSize(), base.getMinMillis(),
+                    result.getMinMillis()));
+        });
+        return entries;
+    }
+
+    /**
+     * Escribe una fila CSV por entrada, con los dos tiempos y la aceleración.
+     *
+     * @param entries entradas a escribir
+     * @param out     destino
+     * @throws IOException si falla la escritura
+     */
+    public static void writeCsv(List<Entry> entries, Writer out) throws IOException {
+        out.write("algorithm,list_type,size,branchy_min_ms,branchless_min_ms,branchless_speedup\n");
+        for (Entry entry : entries) {
+            out.write(String.format(Locale.ROOT, "%s,%s,%d,%.6f,%.6f,%.3f%n", entry.algorithm(),
+                    entry.listType(), entry.size(), entry.branchyMillis(), entry.branchlessMillis(),
+                    entry.speedup()));
+        }
+        out.flush();
+    }
+}
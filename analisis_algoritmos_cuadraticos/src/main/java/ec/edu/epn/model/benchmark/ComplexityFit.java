@@ -0,0 +1,396 @@
+package ec.edu.epn.model.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Ajuste empírico de complejidad a partir de muestras medidas (n, tiempo).
+ *
+ * Se calculan dos modelos por mínimos cuadrados:
+ * <ul>
+ * <li>Ley de potencia {@code t = k·n^p}, ajustada como una recta en escala
+ * log-log; el exponente {@code p} indica el orden de crecimiento observado
+ * (cercano a 2 para los algoritmos cuadráticos).</li>
+ * <li>Polinomio {@code t = c·n² + b·n + a}, que es el modelo calibrado que se
+ * usa para predecir tiempos en esta máquina.</li>
+ * </ul>
+ * Para cada modelo se informa el coeficiente de determinación R². Cada tamaño
+ * aporta la mediana de sus tiempos, la misma que se grafica, que no se mueve
+ * con las pocas ejecuciones lentas que dejan las pausas del sistema.
+ *
+ * <p>
+ * Los tiempos de un barrido van de microsegundos a segundos, así que el
+ * polinomio se ajusta por mínimos cuadrados ponderados con {@code 1/t²}: se
+ * minimiza el error relativo y no el absoluto, para que el tamaño mayor no
+ * decida solo los coeficientes y las predicciones de los tamaños pequeños no
+ * salgan negativas. Su R² se calcula con los mismos pesos. El ajuste log-log
+ * ya mide errores relativos y no necesita pesos.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ComplexityFit {
+
+    private final String algorithmName;
+    private final String listType;
+    private final int samples;
+
+    private final double exponent;
+    private final double powerConstant;
+    private final double powerRSquared;
+
+    private final double quadratic;
+    private final double linear;
+    private final double intercept;
+    private final double quadraticRSquared;
+
+    private ComplexityFit(String algorithmName, String listType, int samples,
+            double exponent, double powerConstant, double powerRSquared,
+            double quadratic, double linear, double intercept, double quadraticRSquared) {
+        this.algorithmName = algorithmName;
+        this.listType = listType;
+        this.samples = samples;
+        this.exponent = exponent;
+        this.powerConstant = powerConstant;
+        this.powerRSquared = powerRSquared;
+        this.quadratic = quadratic;
+        this.linear = linear;
+        this.intercept = intercept;
+        this.quadraticRSquared = quadraticRSquared;
+    }
+
+    /**
+     * Ajusta los modelos a las medianas de una curva medida.
+     *
+     * @param curve    curva producida por {@link ScalingSweep}
+     * @param listType tipo de lista con el que se midió la curva
+     * @return el ajuste calculado
+     */
+    public static ComplexityFit fit(SweepCurve curve, String listType) {
+        double[] sizes = new double[curve.size()];
+        double[] millis = new double[curve.size()];
+        for (int i = 0; i < curve.size(); i++) {
+            sizes[i] = curve.getSize(i);
+            millis[i] = curve.getMedianMillis(i);
+        }
+        return fit(curve.getAlgorithmName(), listType, sizes, millis);
+    }
+
+    /**
+     * Ajusta los modelos a un conjunto de muestras.
+     *
+     * El ajuste log-log necesita al menos dos muestras con tiempo positivo y
+     * el cuadrático al menos tres; si no se cumplen, los coeficientes del
+     * modelo correspondiente son {@code NaN}.
+     *
+     * @param algorithmName nombre del algoritmo medido
+     * @param listType      tipo de lista de entrada
+     * @param sizes         tamaños de arreglo
+     * @param millis        tiempos medidos en milisegundos
+     * @return el ajuste calculado
+     * @throws IllegalArgumentException si los arreglos tienen distinta longitud
+     */
+    public static ComplexityFit fit(String algorithmName, String listType, double[] sizes, double[] millis) {
+        if (sizes.length != millis.length) {
+            throw new IllegalArgumentException("Se esperaban tantos tiempos como tamaños");
+        }
+
+        // Ley de potencia: recta log(t) = log(k) + p·log(n)
+        int positive = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            if (sizes[i] > 0 && millis[i] > 0)
+                positive++;
+        }
+        double[] logN = new double[positive];
+        double[] logT = new double[positive];
+        for (int i = 0, k = 0; i < sizes.length; i++) {
+            if (sizes[i] > 0 && millis[i] > 0) {
+                logN[k] = Math.log(sizes[i]);
+                logT[k] = Math.log(millis[i]);
+                k++;
+            }
+        }
+        double exponent = Double.NaN;
+        double powerConstant = Double.NaN;
+        double powerRSquared = Double.NaN;
+        if (positive >= 2) {
+            double[] ones = new double[positive];
+            Arrays.fill(ones, 1);
+            double[] line = solveLeastSquares(logN, logT, ones, 2);
+            powerConstant = Math.exp(line[0]);
+            exponent = line[1];
+            powerRSquared = rSquared(logN, logT, ones, line);
+        }
+
+        // Polinomio c·n² + b·n + a, con n normalizado para un sistema bien
+        // condicionado y pesos 1/t² para minimizar el error relativo
+        double quadratic = Double.NaN;
+        double linear = Double.NaN;
+        double intercept = Double.NaN;
+        double quadraticRSquared = Double.NaN;
+        if (sizes.length >= 3) {
+            double scale = 0;
+            for (double n : sizes)
+                scale = Math.max(scale, n);
+            double[] x = new double[sizes.length];
+            for (int i = 0; i < sizes.length; i++)
+                x[i] = sizes[i] / scale;
+            double[] weights = relativeWeights(millis);
+            double[] poly = solveLeastSquares(x, millis, weights, 3);
+            quadraticRSquared = rSquared(x, millis, weights, poly);
+            intercept = poly[0];
+            linear = poly[1] / scale;
+            quadratic = poly[2] / (scale * scale);
+        }
+
+        return new ComplexityFit(algorithmName, listType, sizes.length, exponent, powerConstant, powerRSquared,
+                quadratic, linear, intercept, quadraticRSquared);
+    }
+
+    /**
+     * Ajusta los modelos a cada combinación de algoritmo y tipo de lista de
+     * un conjunto de resultados, usando la mediana de cada tamaño.
+     *
+     * @param results resultados medidos, por ejemplo por {@link BenchmarkRunner}
+     * @return un ajuste por algoritmo y tipo de lista, en el orden en que
+     *         aparecen en los resultados
+     */
+    public static List<ComplexityFit> fitAll(List<BenchmarkResult> results) {
+        Map<List<String>, List<BenchmarkResult>> groups = new LinkedHashMap<>();
+        for (BenchmarkResult result : results) {
+            groups.computeIfAbsent(List.of(result.getAlgorithmName(), result.getListType()),
+                    key -> new ArrayList<>()).add(result);
+        }
+
+        List<ComplexityFit> fits = new ArrayList<>();
+        for (Map.Entry<List<String>, List<BenchmarkResult>> group : groups.entrySet()) {
+            List<BenchmarkResult> points = group.getValue();
+            double[] sizes = new double[points.size()];
+            double[] millis = new double[points.size()];
+            for (int i = 0; i < points.size(); i++) {
+                sizes[i] = points.get(i).getSize();
+                millis[i] = points.get(i).getStatistics().getMedianMillis();
+            }
+            fits.add(fit(group.getKey().get(0), group.getKey().get(1), sizes, millis));
+        }
+        return fits;
+    }
+
+    /**
+     * Escribe una fila CSV por ajuste, con los coeficientes y el R² de ambos
+     * modelos.
+     *
+     * @param fits ajustes a escribir
+     * @param out  destino
+     * @throws IOException si falla la escritura
+     */
+    public static void writeCsv(List<ComplexityFit> fits, Writer out) throws IOException {
+        out.write("algorithm,list_type,samples,exponent,power_constant_ms,power_r2,"
+                + "quadratic_ms,linear_ms,intercept_ms,quadratic_r2\n");
+        for (ComplexityFit fit : fits) {
+            out.write(String.format(Locale.ROOT, "%s,%s,%d,%.6f,%.6e,%.6f,%.6e,%.6e,%.6e,%.6f%n",
+                    fit.algorithmName, fit.listType, fit.samples, fit.exponent, fit.powerConstant,
+                    fit.powerRSquared, fit.quadratic, fit.linear, fit.intercept, fit.quadraticRSquared));
+        }
+        out.flush();
+    }
+
+    /**
+     * Calcula pesos {@code 1/t²} para ajustar por error relativo. Los tiempos
+     * nulos no tienen error relativo definido y reciben peso cero; si todos lo
+     * son, se usan pesos iguales.
+     *
+     * @param millis tiempos medidos
+     * @return un peso por tiempo
+     */
+    private static double[] relativeWeights(double[] millis) {
+        double[] weights = new double[millis.length];
+        boolean any = false;
+        for (int i = 0; i < millis.length; i++) {
+            if (millis[i] > 0) {
+                weights[i] = 1.0 / (millis[i] * millis[i]);
+                any = true;
+            }
+        }
+        if (!any)
+            Arrays.fill(weights, 1);
+        return weights;
+    }
+
+    /**
+     * Resuelve por mínimos cuadrados ponderados un polinomio de {@code terms}
+     * coeficientes mediante las ecuaciones normales y eliminación gaussiana
+     * con pivoteo.
+     *
+     * @param x       variable independiente
+     * @param y       variable dependiente
+     * @param weights peso de cada muestra
+     * @param terms   número de coeficientes (grado + 1)
+     * @return coeficientes en orden de potencia creciente
+     */
+    private static double[] solveLeastSquares(double[] x, double[] y, double[] weights, int terms) {
+        double[][] m = new double[terms][terms + 1];
+        for (int i = 0; i < x.length; i++) {
+            double[] powers = new double[2 * terms - 1];
+            powers[0] = 1;
+            for (int p = 1; p < powers.length; p++)
+                powers[p] = powers[p - 1] * x[i];
+            for (int r = 0; r < terms; r++) {
+                for (int c = 0; c < terms; c++)
+                    m[r][c] += weights[i] * powers[r + c];
+                m[r][terms] += weights[i] * powers[r] * y[i];
+            }
+        }
+
+        for (int col = 0; col < terms; col++) {
+            int pivot = col;
+            for (int r = col + 1; r < terms; r++) {
+                if (Math.abs(m[r][col]) > Math.abs(m[pivot][col]))
+                    pivot = r;
+            }
+            double[] tmp = m[col];
+            m[col] = m[pivot];
+            m[pivot] = tmp;
+            if (m[col][col] == 0) {
+                continue;
+            }
+            for (int r = col + 1; r < terms; r++) {
+                double factor = m[r][col] / m[col][col];
+                for (int c = col; c <= terms; c++)
+                    m[r][c] -= factor * m[col][c];
+            }
+        }
+
+        double[] coefficients = new double[terms];
+        for (int r = terms - 1; r >= 0; r--) {
+            double sum = m[r][terms];
+            for (int c = r + 1; c < terms; c++)
+                sum -= m[r][c] * coefficients[c];
+            coefficients[r] = m[r][r] == 0 ? 0 : sum / m[r][r];
+        }
+        return coefficients;
+    }
+
+    /**
+     * Calcula el coeficiente de determinación R² ponderado de un polinomio.
+     *
+     * @param x            variable independiente
+     * @param y            valores observados
+     * @param weights      peso de cada muestra
+     * @param coefficients coeficientes en orden de potencia creciente
+     * @return R², o 1 si los valores observados son constantes
+     */
+    private static double rSquared(double[] x, double[] y, double[] weights, double[] coefficients) {
+        double mean = 0;
+        double totalWeight = 0;
+        for (int i = 0; i < y.length; i++) {
+            mean += weights[i] * y[i];
+            totalWeight += weights[i];
+        }
+        mean /= totalWeight;
+
+        double ssRes = 0;
+        double ssTot = 0;
+        for (int i = 0; i < x.length; i++) {
+            double predicted = 0;
+            double power = 1;
+            for (double c : coefficients) {
+                predicted += c * power;
+                power *= x[i];
+            }
+            ssRes += weights[i] * (y[i] - predicted) * (y[i] - predicted);
+            ssTot += weights[i] * (y[i] - mean) * (y[i] - mean);
+        }
+        return ssTot == 0 ? 1.0 : 1.0 - ssRes / ssTot;
+    }
+
+    /**
+     * Predice el tiempo para un tamaño con el modelo cuadrático calibrado; si
+     * no hay suficientes muestras para él, se usa la ley de potencia.
+     *
+     * @param n tamaño del arreglo
+     * @return tiempo estimado en milisegundos (nunca negativo)
+     */
+    public double predictMillis(double n) {
+        double predicted = hasQuadratic()
+                ? quadratic * n * n + linear * n + intercept
+                : powerConstant * Math.pow(n, exponent);
+        return Double.isNaN(predicted) ? Double.NaN : Math.max(predicted, 0);
+    }
+
+    /**
+     * @return {@code true} si se pudo ajustar el modelo cuadrático
+     */
+    public boolean hasQuadratic() {
+        return !Double.isNaN(quadratic);
+    }
+
+    /**
+     * Devuelve un resumen legible del ajuste.
+     *
+     * @return una línea con exponente, constantes y R² de ambos modelos
+     */
+    public String summary() {
+        return String.format(Locale.ROOT,
+                "%s [%s, %d muestras]: t ≈ %.3e·n^%.3f (R²=%.4f) | t ≈ %.3e·n² + %.3e·n + %.3e ms (R²=%.4f)",
+                algorithmName, listType, samples, powerConstant, exponent, powerRSquared,
+                quadratic, linear, intercept, quadraticRSquared);
+    }
+
+    /** @return el nombre del algoritmo */
+    public String getAlgorithmName() {
+        return algorithmName;
+    }
+
+    /** @return el tipo de lista de entrada */
+    public String getListType() {
+        return listType;
+    }
+
+    /** @return el número de muestras usadas */
+    public int getSamples() {
+        return samples;
+    }
+
+    /** @return el exponente p de la ley de potencia */
+    public double getExponent() {
+        return exponent;
+    }
+
+    /** @return la constante k de la ley de potencia (ms) */
+    public double getPowerConstant() {
+        return powerConstant;
+    }
+
+    /** @return el R² del ajuste log-log */
+    public double getPowerRSquared() {
+        return powerRSquared;
+    }
+
+    /** @return el coeficiente c del término n² (ms) */
+    public double getQuadratic() {
+        return quadratic;
+    }
+
+    /** @return el coeficiente b del término n (ms) */
+    public double getLinear() {
+        return linear;
+    }
+
+    /** @return el término independiente a (ms) */
+    public double getIntercept() {
+        return intercept;
+    }
+
+    /** @return el R² del ajuste cuadrático */
+    public double getQuadraticRSquared() {
+        return quadraticRSquared;
+    }
+}
@@ -0,0 +1,276 @@
+package ec.edu.epn.model.benchmark;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Exporta resultados de medición a un libro {@code .xlsx} mientras las
+ * mediciones siguen en curso.
+ *
+ * <p>
+ * Se usa el libro de transmisión {@link SXSSFWorkbook} de Apache POI: solo se
+ * mantiene en memoria una ventana acotada de filas y las demás se vuelcan a un
+ * archivo temporal, de modo que exportar millones de muestras usa memoria
+ * constante. La escritura la hace un hilo de baja prioridad que consume una
+ * cola acotada; {@link #submit} solo encola el resultado (y se bloquea si la
+ * cola está llena) para no estorbar al hilo que mide.
+ * </p>
+ *
+ * <p>
+ * El libro tiene una hoja "Muestras" con una fila por ejecución medida (que
+ * continúa en "Muestras 2", "Muestras 3"... al llegar al límite de filas de
+ * Excel) y una hoja "Resumen" con una fila por resultado. Si los resultados
+ * traen sus {@link RunCosts}, cada muestra lleva también los bytes reservados
+ * y las recolecciones que la solaparon.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ExcelResultExporter implements AutoCloseable {
+
+    /** Filas que el libro mantiene en memoria por hoja */
+    public static final int DEFAULT_ROW_WINDOW = 1_000;
+
+    /** Resultados que pueden esperar en la cola antes de bloquear al productor */
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+
+    /** Máximo de filas por hoja en el formato .xlsx */
+    private static final int MAX_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows();
+
+    /** Marca de fin de la cola */
+    private static final BenchmarkResult END = new BenchmarkResult("", "", 0, new long[0]);
+
+    private static final String[] SAMPLE_HEADERS = { "Algoritmo", "Tipo de lista", "Tamaño", "Ejecución",
+            "Tiempo (ns)", "Tiempo (ms)", "Fase", "Bytes asignados", "Recolecciones", "Pausa GC (ms)" };
+
+    private static final String[] SUMMARY_HEADERS = { "Algoritmo", "Tipo de lista", "Tamaño", "Muestras (sin atípicos)",
+            "Media (ms)", "Mínimo (ms)", "Máximo (ms)", "Mediana (ms)", "P90 (ms)", "P99 (ms)",
+            "Desv. estándar (ms)", "IC 95% inferior (ms)", "IC 95% superior (ms)", "Atípicos",
+            "Bytes por ejecución (media)", "Ejecuciones con GC" };
+
+    private final Path file;
+    private final SXSSFWorkbook workbook;
+    private final CellStyle headerStyle;
+    private final BlockingQueue<BenchmarkResult> queue;
+    private final Thread writer;
+
+    private SXSSFSheet sampleSheet;
+    private int sampleSheetCount;
+    private int sampleRow;
+    private final SXSSFSheet summarySheet;
+    private int summaryRow;
+
+    /** Error del hilo escritor, si lo hubo */
+    private volatile Throwable failure;
+    private boolean closed;
+
+    /**
+     * Crea un exportador con la ventana de filas y la cola por defecto.
+     *
+     * @param file archivo .xlsx de destino
+     */
+    public ExcelResultExporter(Path file) {
+        this(file, DEFAULT_ROW_WINDOW, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Crea un exportador y arranca su hilo escritor.
+     *
+     * @param file          archivo .xlsx de destino
+     * @param rowWindow     filas por hoja que se mantienen en memoria
+     * @param queueCapacity resultados que pueden esperar a ser escritos
+     * @throws IllegalArgumentException si la ventana o la cola no son positivas
+     */
+    public ExcelResultExporter(Path file, int rowWindow, int queueCapacity) {
+        if (rowWindow <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Ventana de filas o capacidad de cola inválida");
+        }
+        this.file = file;
+        this.workbook = new SXSSFWorkbook(rowWindow);
+        workbook.setCompressTempFiles(true);
+
+        Font bold = workbook.createFont();
+        bold.setBold(true);
+        headerStyle = workbook.createCellStyle();
+        headerStyle.setFont(bold);
+
+        summarySheet = workbook.createSheet("Resumen");
+        summaryRow = header(summarySheet, SUMMARY_HEADERS);
+        newSampleSheet();
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        writer = new Thread(this::drain, "excel-export");
+        writer.setDaemon(true);
+        writer.setPriority(Thread.MIN_PRIORITY);
+        writer.start();
+    }
+
+    /**
+     * Encola un resultado para escribirlo. Se bloquea solo si la cola está
+     * llena, es decir, si el escritor va atrasado.
+     *
+     * @param result resultado a exportar
+     * @throws IllegalStateException si el exportador ya se cerró o el
+     *                               escritor falló
+     */
+    public void submit(BenchmarkResult result) {
+        if (closed) {
+            throw new IllegalStateException("El exportador ya está cerrado");
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Falló la exportación a Excel", failure);
+        }
+        try {
+            queue.put(result);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Exportación interrumpida", e);
+        }
+    }
+
+    /**
+     * Espera a que se escriban los resultados pendientes, guarda el libro en
+     * el archivo y borra los temporales.
+     *
+     * @throws IOException si falla la escritura del libro
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            queue.put(END);
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            IOException interrupted = new IOException("Exportación interrumpida", e);
+            try {
+                workbook.close();
+            } catch (IOException closing) {
+                interrupted.addSuppressed(closing);
+            }
+            throw interrupted;
+        }
+        try {
+            if (failure != null) {
+                throw new IOException("Falló la exportación a Excel", failure);
+            }
+            try (OutputStream out = Files.newOutputStream(file)) {
+                workbook.write(out);
+            }
+        } finally {
+            // close() también borra los archivos temporales del libro
+            workbook.close();
+        }
+    }
+
+    /**
+     * Cuerpo del hilo escritor: vuelca resultados hasta recibir la marca de
+     * fin. Si falla, sigue vaciando la cola para no bloquear al productor.
+     */
+    private void drain() {
+        try {
+            for (BenchmarkResult result = queue.take(); result != END; result = queue.take()) {
+                if (failure == null) {
+                    try {
+                        write(result);
+                    } catch (RuntimeException e) {
+                        failure = e;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Escribe las filas de muestras y la fila de resumen de un resultado.
+     *
+     * @param result resultado a escribir
+     */
+    private void write(BenchmarkResult result) {
+        long[] samples = result.getSampleNanos();
+        RunCosts costs = result.getCosts();
+        for (int i = 0; i < samples.length; i++) {
+            if (sampleRow == MAX_ROWS) {
+                newSampleSheet();
+            }
+            Row row = sampleSheet.createRow(sampleRow++);
+            row.createCell(0).setCellValue(result.getAlgorithmName());
+            row.createCell(1).setCellValue(result.getListType());
+            row.createCell(2).setCellValue(result.getSize());
+            row.createCell(3).setCellValue(i + 1);
+            row.createCell(4).setCellValue(samples[i]);
+            row.createCell(5).setCellValue(samples[i] / 1_000_000.0);
+            row.createCell(6).setCellValue(result.getPhase(i).getLabel());
+            if (costs != null) {
+                if (costs.getAllocatedBytes(i) >= 0)
+                    row.createCell(7).setCellValue(costs.getAllocatedBytes(i));
+                row.createCell(8).setCellValue(costs.getGcCount(i));
+                row.createCell(9).setCellValue(costs.getGcMillis(i));
+            }
+        }
+
+        Row row = summarySheet.createRow(summaryRow++);
+        row.createCell(0).setCellValue(result.getAlgorithmName());
+        row.createCell(1).setCellValue(result.getListType());
+        row.createCell(2).setCellValue(result.getSize());
+        SampleStatistics stats = result.getStatistics();
+        row.createCell(3).setCellValue(stats.getCount());
+        row.createCell(4).setCellValue(stats.getMeanMillis());
+        row.createCell(5).setCellValue(stats.getMinMillis());
+        row.createCell(6).setCellValue(stats.getMaxMillis());
+        row.createCell(7).setCellValue(stats.getMedianMillis());
+        row.createCell(8).setCellValue(stats.getP90Millis());
+        row.createCell(9).setCellValue(stats.getP99Millis());
+        row.createCell(10).setCellValue(stats.getStdDevMillis());
+        row.createCell(11).setCellValue(stats.getCiLowMillis());
+        row.createCell(12).setCellValue(stats.getCiHighMillis());
+        row.createCell(13).setCellValue(stats.getOutliers());
+        if (costs != null) {
+            if (costs.getMeanAllocatedBytes() >= 0)
+                row.createCell(14).setCellValue(costs.getMeanAllocatedBytes());
+            row.createCell(15).setCellValue(costs.countGcOverlaps());
+        }
+    }
+
+    /**
+     * Crea la siguiente hoja de muestras con su encabezado.
+     */
+    private void newSampleSheet() {
+        sampleSheetCount++;
+        sampleSheet = workbook.createSheet(sampleSheetCount == 1 ? "Muestras" : "Muestras " + sampleSheetCount);
+        sampleRow = header(sampleSheet, SAMPLE_HEADERS);
+    }
+
+    /**
+     * Escribe la fila de encabezado de una hoja.
+     *
+     * @param sheet   hoja de destino
+     * @param headers títulos de las columnas
+     * @return el índice de la primera fila de datos
+     */
+    private int header(SXSSFSheet sheet, String[] headers) {
+        Row row = sheet.createRow(0);
+        for (int i = 0; i < headers.length; i++) {
+            row.createCell(i).setCellValue(headers[i]);
+            row.getCell(i).setCellStyle(headerStyle);
+        }
+        return 1;
+    }
+}
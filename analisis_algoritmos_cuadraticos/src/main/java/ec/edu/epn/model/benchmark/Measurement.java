@@ -0,0 +1,114 @@
+package ec.edu.epn.model.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Resultado de un {@link MeasurementEngine}: el tiempo de cada ejecución, de
+ * calentamiento o medida, etiquetado con su {@link RunPhase} y con sus
+ * {@link RunCosts}, y el resumen estadístico de las ejecuciones en régimen
+ * estable que no se solaparon con una recolección de basura.
+ *
+ * @author
+ * @version 1.0
+ */
+public class Measurement {
+
+    private final long[] runNanos;
+    private final RunPhase[] phases;
+    private final RunCosts costs;
+    private final int warmupRuns;
+    private final boolean steady;
+    private final long compilationMillis;
+    private final SampleStatistics statistics;
+
+    /**
+     * Crea una medición.
+     *
+     * @param runNanos          tiempo de cada ejecución, primero las de
+     *                          calentamiento
+     * @param phases            fase de cada ejecución
+     * @param costs             memoria y recolecciones de cada ejecución
+     * @param warmupRuns        ejecuciones de calentamiento al inicio
+     * @param steady            si el calentamiento alcanzó un régimen estable
+     * @param compilationMillis tiempo que el JIT pasó compilando durante la
+     *                          medición, o -1 si la JVM no lo informa
+     */
+    Measurement(long[] runNanos, RunPhase[] phases, RunCosts costs, int warmupRuns, boolean steady,
+            long compilationMillis) {
+        this.runNanos = runNanos;
+        this.phases = phases;
+        this.costs = costs;
+        this.warmupRuns = warmupRuns;
+        this.steady = steady;
+        this.compilationMillis = compilationMillis;
+        this.statistics = SampleStatistics.of(steadySamples(runNanos, phases, costs, warmupRuns));
+    }
+
+    /**
+     * Devuelve las muestras medidas en fase estable y sin recolecciones, o
+     * todas las medidas si ninguna cumple ambas condiciones.
+     *
+     * @param runNanos   tiempo de cada ejecución
+     * @param phases     fase de cada ejecución
+     * @param costs      memoria y recolecciones de cada ejecución
+     * @param warmupRuns ejecuciones de calentamiento al inicio
+     * @return las muestras que se resumen
+     */
+    private static long[] steadySamples(long[] runNanos, RunPhase[] phases, RunCosts costs, int warmupRuns) {
+        long[] samples = new long[runNanos.length - warmupRuns];
+        int count = 0;
+        for (int i = warmupRuns; i < runNanos.length; i++) {
+            if (phases[i] == RunPhase.STEADY && !costs.overlapsGc(i))
+                samples[count++] = runNanos[i];
+        }
+        return count == 0 ? Arrays.copyOfRange(runNanos, warmupRuns, runNanos.length)
+                : Arrays.copyOf(samples, count);
+    }
+
+    /** @return una copia del tiempo de cada ejecución en nanosegundos */
+    public long[] getRunNanos() {
+        return runNanos.clone();
+    }
+
+    /** @return una copia de la fase de cada ejecución */
+    public RunPhase[] getPhases() {
+        return phases.clone();
+    }
+
+    /** @return la memoria reservada y las recolecciones de cada ejecución */
+    public RunCosts getCosts() {
+        return costs;
+    }
+
+    /** @return una copia de los tiempos de calentamiento en nanosegundos */
+    public long[] getWarmupNanos() {
+        return Arrays.copyOf(runNanos, warmupRuns);
+    }
+
+    /** @return una copia de las muestras medidas en nanosegundos */
+    public long[] getSampleNanos() {
+        return Arrays.copyOfRange(runNanos, warmupRuns, runNanos.length);
+    }
+
+    /**
+     * @return {@code true} si las muestras se tomaron en régimen estable;
+     *         {@code false} si el calentamiento se cortó por el límite de
+     *         ejecuciones o de tiempo
+     */
+    public boolean isSteady() {
+        return steady;
+    }
+
+    /**
+     * @return el tiempo que el JIT pasó compilando durante la medición, en
+     *         milisegundos, o -1 si la JVM no lo informa
+     */
+    public long getCompilationMillis() {
+        return compilationMillis;
+    }
+
+    /** @return el resumen estadístico de las muestras en régimen estable */
+    public SampleStatistics getStatistics() {
+        return statistics;
+    }
+}
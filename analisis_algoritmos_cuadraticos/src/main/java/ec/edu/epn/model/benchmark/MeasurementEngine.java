@@ -0,0 +1,365 @@
+package ec.edu.epn.model.benchmark;
+
+import ec.edu.epn.model.SortAlgorithm;
+import ec.edu.epn.model.monitoring.SortEvent;
+import ec.edu.epn.model.monitoring.SortEvents;
+import ec.edu.epn.model.monitoring.SortMetrics;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Mide un {@link SortAlgorithm} sobre una entrada tomando muchas muestras en
+ * nanosegundos, en lugar de una sola medición de inicio a fin.
+ *
+ * <p>
+ * La medición tiene dos fases. En el calentamiento se repite el algoritmo
+ * hasta que el código que ejecuta es el que produce el JIT en régimen
+ * estable: la mediana de las últimas {@value #WINDOW} ejecuciones difiere
+ * menos de un {@value #TOLERANCE_PERCENT} % de la mediana de las
+ * {@value #WINDOW} anteriores y, además, el compilador no trabajó durante
+ * esas últimas {@value #WINDOW} ejecuciones (según el
+ * {@link CompilationMXBean}, si la JVM lo informa). Después se toman las
+ * muestras que se resumen con {@link SampleStatistics}. Cada ejecución ordena
+ * una copia nueva de la entrada, copiada fuera del tramo medido.
+ * </p>
+ *
+ * <p>
+ * Cada ejecución queda etiquetada con su {@link RunPhase}: las de
+ * calentamiento que tardaron más del doble de la mediana estable son
+ * {@link RunPhase#COLD frías}, el resto del calentamiento y las muestras
+ * durante las que el JIT compiló algo están
+ * {@link RunPhase#WARMING calentando}, y las demás muestras son
+ * {@link RunPhase#STEADY estables}. Si el calentamiento terminó sin alcanzar
+ * el régimen estable (por el límite de ejecuciones o de tiempo), ninguna
+ * muestra se considera estable.
+ * </p>
+ *
+ * <p>
+ * De cada ejecución se guardan también sus {@link RunCosts}: los bytes que
+ * reservó el hilo y las recolecciones de basura que la solaparon. Las
+ * muestras solapadas con una recolección no entran en el resumen. Las
+ * operaciones del propio motor entre ejecuciones (como la detección de
+ * régimen estable) no reservan memoria, para no provocar recolecciones.
+ * </p>
+ *
+ * <p>
+ * Un presupuesto de tiempo acota las dos fases para que los tamaños grandes
+ * no se eternicen: el calentamiento se corta al consumir la mitad, y las
+ * muestras dejan de tomarse al consumirlo entero, siempre que ya haya un
+ * mínimo de ellas.
+ * </p>
+ *
+ * Ejemplo de uso:
+ *
+ * <pre>{@code
+ * MeasurementEngine engine = new MeasurementEngine(100, 3, 30, 1000);
+ * Measurement m = engine.measure(new InsertionSort(), input);
+ * System.out.println(m.getStatistics().getMedianMillis() + " ms");
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class MeasurementEngine {
+
+    /** Ejecuciones de cada ventana de la detección de régimen estable */
+    public static final int WINDOW = 5;
+
+    /** Diferencia relativa máxima entre ventanas consecutivas, en % */
+    public static final int TOLERANCE_PERCENT = 5;
+
+    /** Una ejecución de calentamiento es fría si tarda más que esto por la mediana estable */
+    private static final int COLD_FACTOR = 2;
+
+    /** Bean del compilador JIT, o {@code null} si la JVM no informa su tiempo */
+    private static final CompilationMXBean COMPILER = compiler();
+
+    /** Ejecuciones máximas de calentamiento */
+    private final int maxWarmupRuns;
+
+    /** Muestras que se toman aunque se agote el presupuesto */
+    private final int minSamples;
+
+    /** Muestras máximas */
+    private final int maxSamples;
+
+    /** Presupuesto de tiempo por medición, en nanosegundos */
+    private final long budgetNanos;
+
+    /**
+     * Crea un motor de medición.
+     *
+     * @param maxWarmupRuns ejecuciones máximas de calentamiento
+     * @param minSamples    muestras mínimas (mayor que 0)
+     * @param maxSamples    muestras máximas (al menos minSamples)
+     * @param budgetMillis  presupuesto de tiempo por medición en milisegundos
+     * @throws IllegalArgumentException si algún parámetro no es válido
+     */
+    public MeasurementEngine(int maxWarmupRuns, int minSamples, int maxSamples, double budgetMillis) {
+        if (maxWarmupRuns < 0 || minSamples <= 0 || maxSamples < minSamples) {
+            throw new IllegalArgumentException("Número de ejecuciones inválido");
+        }
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("Presupuesto de tiempo inválido: " + budgetMillis);
+        }
+        this.maxWarmupRuns = maxWarmupRuns;
+        this.minSamples = minSamples;
+        this.maxSamples = maxSamples;
+        this.budgetNanos = (long) (budgetMillis * 1_000_000);
+
+        // Consultar SortEvents inicializa JFR, que tarda cientos de
+        // milisegundos la primera vez; mejor aquí que dentro de una medición
+        SortEvents.isSortRecorded();
+    }
+
+    /**
+     * Mide el algoritmo sobre la entrada. La entrada no se modifica.
+     *
+     * @param algorithm algoritmo a medir
+     * @param input     entrada original
+     * @return el tiempo y la fase de cada ejecución
+     */
+    public Measurement measure(SortAlgorithm algorithm, int[] input) {
+        return measure(algorithm, input, new int[input.length]);
+    }
+
+    /**
+     * Mide el algoritmo sobre la entrada usando un arreglo de trabajo propio,
+     * para no reservar uno por medición.
+     *
+     * @param algorithm algoritmo a medir
+     * @param input     entrada original; no se modifica
+     * @param work      arreglo de trabajo de la misma longitud que la entrada;
+     *                  al terminar contiene la entrada ordenada
+     * @return el tiempo y la fase de cada ejecución
+     */
+    public Measurement measure(SortAlgorithm algorithm, int[] input, int[] work) {
+        // El primer registro del bean JMX de un algoritmo tarda cientos de
+        // milisegundos; se hace antes de empezar a gastar el presupuesto
+        SortMetrics metrics = SortMetrics.of(algorithm.getName());
+        // Las comparaciones de Insertion Sort cuestan un conteo de
+        // inversiones, que tampoco debe gastar presupuesto
+        long comparisons = SortEvents.isSortRecorded() ? SortEvents.comparisons(algorithm, input) : -1;
+        String inputShape = SortEvents.inputShape();
+        long begin = System.nanoTime();
+        long compileBegin = compilationMillis();
+
+        Runs runs = new Runs(Math.min(maxWarmupRuns, 2 * WINDOW) + maxSamples, algorithm.getName(),
+                inputShape, comparisons, metrics);
+        long[] window = new long[WINDOW];
+        boolean steady = false;
+        while (runs.count < maxWarmupRuns) {
+            if (runs.count == runs.nanos.length - maxSamples)
+                runs.grow(Math.min(maxWarmupRuns, runs.count * 2) + maxSamples);
+            runs.run(algorithm, input, work);
+            if (isSteady(runs.nanos, runs.count, window) && !compiledInLastWindow(runs.compiled, runs.count)) {
+                steady = true;
+                break;
+            }
+            if (System.nanoTime() - begin > budgetNanos / 2)
+                break;
+        }
+        int warmupRuns = runs.count;
+
+        while (runs.count - warmupRuns < maxSamples
+                && (runs.count - warmupRuns < minSamples || System.nanoTime() - begin <= budgetNanos)) {
+            runs.run(algorithm, input, work);
+        }
+
+        int count = runs.count;
+        RunPhase[] phases = classify(runs.nanos, runs.compiled, warmupRuns, count, steady);
+        long compilation = COMPILER == null ? -1 : compilationMillis() - compileBegin;
+        RunCosts costs = new RunCosts(Arrays.copyOf(runs.allocatedBytes, count), Arrays.copyOf(runs.gcCounts, count),
+                Arrays.copyOf(runs.gcMillis, count));
+        return new Measurement(Arrays.copyOf(runs.nanos, count), phases, costs, warmupRuns, steady, compilation);
+    }
+
+    /**
+     * Etiqueta cada ejecución con su fase, comparando el calentamiento con la
+     * mediana de las muestras medidas.
+     *
+     * @param runs       tiempo de cada ejecución
+     * @param compiled   si el JIT trabajó durante cada ejecución
+     * @param warmupRuns ejecuciones de calentamiento al inicio
+     * @param count      ejecuciones registradas
+     * @param steady     si el calentamiento alcanzó el régimen estable
+     * @return la fase de cada ejecución
+     */
+    private static RunPhase[] classify(long[] runs, boolean[] compiled, int warmupRuns, int count,
+            boolean steady) {
+        long steadyMedian = median(runs, warmupRuns, count);
+        RunPhase[] phases = new RunPhase[count];
+        for (int i = 0; i < warmupRuns; i++) {
+            phases[i] = runs[i] > COLD_FACTOR * steadyMedian ? RunPhase.COLD : RunPhase.WARMING;
+        }
+        for (int i = warmupRuns; i < count; i++) {
+            phases[i] = steady && !compiled[i] ? RunPhase.STEADY : RunPhase.WARMING;
+        }
+        return phases;
+    }
+
+    /**
+     * Compara la mediana de las últimas {@value #WINDOW} ejecuciones con la de
+     * las {@value #WINDOW} anteriores.
+     *
+     * @param runs   tiempos de calentamiento
+     * @param count  ejecuciones registradas
+     * @param window arreglo auxiliar de {@value #WINDOW} elementos
+     * @return {@code true} si ambas difieren menos de la tolerancia
+     */
+    static boolean isSteady(long[] runs, int count, long[] window) {
+        if (count < 2 * WINDOW) {
+            return false;
+        }
+        long previous = median(runs, count - 2 * WINDOW, count - WINDOW, window);
+        long last = median(runs, count - WINDOW, count, window);
+        return Math.abs(last - previous) * 100 <= TOLERANCE_PERCENT * previous;
+    }
+
+    /**
+     * @param compiled si el JIT trabajó durante cada ejecución
+     * @param count    ejecuciones registradas
+     * @return {@code true} si el JIT trabajó en alguna de las últimas
+     *         {@value #WINDOW} ejecuciones
+     */
+    private static boolean compiledInLastWindow(boolean[] compiled, int count) {
+        for (int i = Math.max(0, count - WINDOW); i < count; i++) {
+            if (compiled[i])
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param runs tiempos
+     * @param from primer índice, incluido
+     * @param to   último índice, excluido
+     * @return la mediana de los tiempos del rango, o 0 si está vacío
+     */
+    private static long median(long[] runs, int from, int to) {
+        return median(runs, from, to, new long[Math.max(0, to - from)]);
+    }
+
+    /**
+     * Variante de {@link #median(long[], int, int)} que ordena en un arreglo
+     * auxiliar dado, sin reservar memoria.
+     *
+     * @param runs    tiempos
+     * @param from    primer índice, incluido
+     * @param to      último índice, excluido
+     * @param scratch arreglo auxiliar de al menos {@code to - from} elementos
+     * @return la mediana de los tiempos del rango, o 0 si está vacío
+     */
+    private static long median(long[] runs, int from, int to, long[] scratch) {
+        int length = to - from;
+        if (length <= 0) {
+            return 0;
+        }
+        System.arraycopy(runs, from, scratch, 0, length);
+        Arrays.sort(scratch, 0, length);
+        return scratch[length / 2];
+    }
+
+    /**
+     * Ejecuciones registradas de una medición, en arreglos paralelos que
+     * crecen solo durante el calentamiento. Cada ejecución se graba además
+     * como un {@link SortEvent} de Java Flight Recorder y se suma a las
+     * {@link SortMetrics} publicadas por JMX.
+     */
+    private static final class Runs {
+
+        final String algorithmName;
+        final String inputShape;
+        final long comparisons;
+        final SortMetrics metrics;
+
+        long[] nanos;
+        boolean[] compiled;
+        long[] allocatedBytes;
+        long[] gcCounts;
+        long[] gcMillis;
+        int count;
+
+        /**
+         * @param capacity      capacidad inicial
+         * @param algorithmName nombre del algoritmo, para los eventos
+         * @param inputShape    tipo de lista, para los eventos
+         * @param comparisons   comparaciones de cada ejecución, o -1 si no
+         *                      se conocen
+         * @param metrics       métricas JMX del algoritmo
+         */
+        Runs(int capacity, String algorithmName, String inputShape, long comparisons, SortMetrics metrics) {
+            this.algorithmName = algorithmName;
+            this.inputShape = inputShape;
+            this.comparisons = comparisons;
+            this.metrics = metrics;
+            nanos = new long[capacity];
+            compiled = new boolean[capacity];
+            allocatedBytes = new long[capacity];
+            gcCounts = new long[capacity];
+            gcMillis = new long[capacity];
+        }
+
+        /**
+         * @param capacity nueva capacidad
+         */
+        void grow(int capacity) {
+            nanos = Arrays.copyOf(nanos, capacity);
+            compiled = Arrays.copyOf(compiled, capacity);
+            allocatedBytes = Arrays.copyOf(allocatedBytes, capacity);
+            gcCounts = Arrays.copyOf(gcCounts, capacity);
+            gcMillis = Arrays.copyOf(gcMillis, capacity);
+        }
+
+        /**
+         * Ejecuta el algoritmo una vez sobre una copia de la entrada y
+         * registra su tiempo, la actividad del JIT, la memoria reservada y las
+         * recolecciones. Las lecturas de la JVM quedan fuera del tramo medido.
+         *
+         * @param algorithm algoritmo a medir
+         * @param input     entrada original
+         * @param work      arreglo de trabajo
+         */
+        void run(SortAlgorithm algorithm, int[] input, int[] work) {
+            System.arraycopy(input, 0, work, 0, input.length);
+            SortEvent event = new SortEvent();
+            long compileBefore = compilationMillis();
+            long gcCountBefore = RunProbe.gcCount();
+            long gcMillisBefore = RunProbe.gcMillis();
+            long allocatedBefore = RunProbe.allocatedBytes();
+            event.begin();
+            long start = System.nanoTime();
+            algorithm.sort(work);
+            long elapsed = System.nanoTime() - start;
+            event.end();
+            long allocatedAfter = RunProbe.allocatedBytes();
+            event.record(algorithmName, work.length, inputShape, comparisons);
+            metrics.record(work.length, elapsed);
+            nanos[count] = elapsed;
+            allocatedBytes[count] = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+            gcCounts[count] = RunProbe.gcCount() - gcCountBefore;
+            gcMillis[count] = RunProbe.gcMillis() - gcMillisBefore;
+            compiled[count] = compilationMillis() != compileBefore;
+            count++;
+        }
+    }
+
+    /**
+     * @return el tiempo total que el JIT lleva compilando, en milisegundos, o
+     *         0 si la JVM no lo informa
+     */
+    private static long compilationMillis() {
+        return COMPILER == null ? 0 : COMPILER.getTotalCompilationTime();
+    }
+
+    /**
+     * @return el bean del compilador, o {@code null} si no hay JIT o no
+     *         informa su tiempo
+     */
+    private static CompilationMXBean compiler() {
+        CompilationMXBean bean = ManagementFactory.getCompilationMXBean();
+        return bean != null && bean.isCompilationTimeMonitoringSupported() ? bean : null;
+    }
+}
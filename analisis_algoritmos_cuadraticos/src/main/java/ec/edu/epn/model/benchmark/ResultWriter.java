@@ -0,0 +1,206 @@
+package ec.edu.epn.model.benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Escribe resultados de medición en formatos legibles por máquina (CSV y
+ * JSON), sin dependencias externas. Junto a cada muestra se escribe su
+ * {@link RunPhase} ({@code cold}, {@code warming} o {@code steady}) y, si se
+ * midieron, sus {@link RunCosts}: bytes reservados y recolecciones de basura
+ * (-1 y 0 cuando no hay datos).
+ *
+ * <p>
+ * Las columnas de resumen salen todas de {@link SampleStatistics}: muestras
+ * estables que quedaron tras descartar atípicos ({@code samples}), las
+ * descartadas ({@code outliers}) y media, mínimo, máximo, percentiles e
+ * intervalo sobre las que quedaron. Las listas {@code sample_*} incluyen todas
+ * las ejecuciones, también las de calentamiento.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class ResultWriter {
+
+    private ResultWriter() {
+    }
+
+    /**
+     * Escribe una fila CSV por resultado, con su resumen y las muestras
+     * separadas por {@code ;}.
+     *
+     * @param results resultados a escribir
+     * @param out     destino
+     * @throws IOException si falla la escritura
+     */
+    public static void writeCsv(List<BenchmarkResult> results, Writer out) throws IOException {
+        out.write("algorithm,list_type,size,samples,mean_ms,min_ms,max_ms,median_ms,p90_ms,p99_ms,stddev_ms,"
+                + "ci95_low_ms,ci95_high_ms,outliers,sample_nanos,sample_phases,"
+                + "sample_allocated_bytes,sample_gc_counts,sample_gc_ms\n");
+        for (BenchmarkResult result : results) {
+            SampleStatistics stats = result.getStatistics();
+            StringBuilder samples = new StringBuilder();
+            StringBuilder phases = new StringBuilder();
+            StringBuilder allocated = new StringBuilder();
+            StringBuilder gcCounts = new StringBuilder();
+            StringBuilder gcMillis = new StringBuilder();
+            long[] sampleNanos = result.getSampleNanos();
+            for (int s = 0; s < sampleNanos.length; s++) {
+                if (s > 0) {
+                    samples.append(';');
+                    phases.append(';');
+                    allocated.append(';');
+                    gcCounts.append(';');
+                    gcMillis.append(';');
+                }
+                samples.append(sampleNanos[s]);
+                phases.append(phase(result.getPhase(s)));
+                allocated.append(allocatedBytes(result, s));
+                gcCounts.append(gcCount(result, s));
+                gcMillis.append(gcMillis(result, s));
+            }
+            out.write(String.format(Locale.ROOT,
+                    "%s,%s,%d,%d,%.6f,%.6f,%.6f,%.6f,%.6f,%.6f,%.6f,%.6f,%.6f,%d,%s,%s,%s,%s,%s%n",
+                    csv(result.getAlgorithmName()), csv(result.getListType()), result.getSize(),
+                    stats.getCount(), stats.getMeanMillis(), stats.getMinMillis(),
+                    stats.getMaxMillis(), stats.getMedianMillis(), stats.getP90Millis(), stats.getP99Millis(),
+                    stats.getStdDevMillis(), stats.getCiLowMillis(), stats.getCiHighMillis(), stats.getOutliers(),
+                    samples, phases, allocated, gcCounts, gcMillis));
+        }
+        out.flush();
+    }
+
+    /**
+     * Escribe los resultados como un arreglo JSON de objetos.
+     *
+     * @param results resultados a escribir
+     * @param out     destino
+     * @throws IOException si falla la escritura
+     */
+    public static void writeJson(List<BenchmarkResult> results, Writer out) throws IOException {
+        out.write("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            BenchmarkResult result = results.get(i);
+            SampleStatistics stats = result.getStatistics();
+            StringBuilder samples = new StringBuilder();
+            StringBuilder phases = new StringBuilder();
+            StringBuilder allocated = new StringBuilder();
+            StringBuilder gcCounts = new StringBuilder();
+            StringBuilder gcMillis = new StringBuilder();
+            long[] sampleNanos = result.getSampleNanos();
+            for (int s = 0; s < sampleNanos.length; s++) {
+                if (s > 0) {
+                    samples.append(", ");
+                    phases.append(", ");
+                    allocated.append(", ");
+                    gcCounts.append(", ");
+                    gcMillis.append(", ");
+                }
+                samples.append(sampleNanos[s]);
+                phases.append(json(phase(result.getPhase(s))));
+                allocated.append(allocatedBytes(result, s));
+                gcCounts.append(gcCount(result, s));
+                gcMillis.append(gcMillis(result, s));
+            }
+            out.write(String.format(Locale.ROOT,
+                    "  {\"algorithm\": %s, \"listType\": %s, \"size\": %d, \"samples\": %d, \"meanMs\": %.6f, "
+                            + "\"minMs\": %.6f, \"maxMs\": %.6f, \"medianMs\": %.6f, \"p90Ms\": %.6f, "
+                            + "\"p99Ms\": %.6f, \"stdDevMs\": %.6f, \"ci95Ms\": [%.6f, %.6f], \"outliers\": %d, "
+                            + "\"sampleNanos\": [%s], \"samplePhases\": [%s], \"sampleAllocatedBytes\": [%s], "
+                            + "\"sampleGcCounts\": [%s], \"sampleGcMs\": [%s]}%s%n",
+                    json(result.getAlgorithmName()), json(result.getListType()), result.getSize(),
+                    stats.getCount(), stats.getMeanMillis(), stats.getMinMillis(), stats.getMaxMillis(),
+                    stats.getMedianMillis(),
+                    stats.getP90Millis(), stats.getP99Millis(), stats.getStdDevMillis(), stats.getCiLowMillis(),
+                    stats.getCiHighMillis(), stats.getOutliers(), samples, phases,
+                    allocated, gcCounts, gcMillis,
+                    i < results.size() - 1 ? "," : ""));
+        }
+        out.write("]\n");
+        out.flush();
+    }
+
+    /**
+     * @param phase fase de una muestra
+     * @return el nombre de la fase en minúsculas, como {@code "steady"}
+     */
+    private static String phase(RunPhase phase) {
+        return phase.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @param result resultado
+     * @param index  índice de la muestra
+     * @return los bytes reservados durante la muestra, o -1 si no se midieron
+     */
+    private static long allocatedBytes(BenchmarkResult result, int index) {
+        RunCosts costs = result.getCosts();
+        return costs == null ? -1 : costs.getAllocatedBytes(index);
+    }
+
+    /**
+     * @param result resultado
+     * @param index  índice de la muestra
+     * @return las recolecciones durante la muestra, o 0 si no se midieron
+     */
+    private static long gcCount(BenchmarkResult result, int index) {
+        RunCosts costs = result.getCosts();
+        return costs == null ? 0 : costs.getGcCount(index);
+    }
+
+    /**
+     * @param result resultado
+     * @param index  índice de la muestra
+     * @return la pausa de recolección durante la muestra en milisegundos, o 0
+     *         si no se midió
+     */
+    private static long gcMillis(BenchmarkResult result, int index) {
+        RunCosts costs = result.getCosts();
+        return costs == null ? 0 : costs.getGcMillis(index);
+    }
+
+    /**
+     * Escapa un valor CSV si contiene comas o comillas.
+     *
+     * @param value valor a escribir
+     * @return el valor listo para una celda CSV
+     */
+    private static String csv(String value) {
+        if (value.contains(",") || value.contains("\"")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    /**
+     * Convierte un texto en una cadena JSON.
+     *
+     * @param value texto a escribir
+     * @return la cadena JSON entre comillas
+     */
+    private static String json(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                default:
+                    if (c < 0x20)
+                        sb.append(String.format("\\u%04x", (int) c));
+                    else
+                        sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,108 @@
+package ec.edu.epn.model.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Costos de memoria de cada ejecución medida: los bytes que reservó en el
+ * montículo el hilo que ordenaba y las recolecciones de basura que ocurrieron
+ * mientras tanto.
+ *
+ * <p>
+ * Una recolección durante una ejecución le suma su pausa al tiempo medido, y
+ * en barridos largos es la mayor fuente de variación. Las ejecuciones que se
+ * solapan con una recolección ({@link #overlapsGc(int)}) se marcan y se dejan
+ * fuera del resumen estadístico.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class RunCosts {
+
+    private final long[] allocatedBytes;
+    private final long[] gcCounts;
+    private final long[] gcMillis;
+
+    /**
+     * Crea los costos de una serie de ejecuciones.
+     *
+     * @param allocatedBytes bytes reservados en cada ejecución, o -1 si la JVM
+     *                       no los informa
+     * @param gcCounts       recolecciones durante cada ejecución
+     * @param gcMillis       tiempo de recolección durante cada ejecución, en ms
+     * @throws IllegalArgumentException si los arreglos no tienen la misma
+     *                                  longitud
+     */
+    RunCosts(long[] allocatedBytes, long[] gcCounts, long[] gcMillis) {
+        if (allocatedBytes.length != gcCounts.length || gcCounts.length != gcMillis.length) {
+            throw new IllegalArgumentException("Costos de ejecución de distinta longitud");
+        }
+        this.allocatedBytes = allocatedBytes;
+        this.gcCounts = gcCounts;
+        this.gcMillis = gcMillis;
+    }
+
+    /**
+     * @return el número de ejecuciones
+     */
+    public int size() {
+        return allocatedBytes.length;
+    }
+
+    /**
+     * @param index índice de la ejecución
+     * @return los bytes reservados durante la ejecución, o -1 si la JVM no los
+     *         informa
+     */
+    public long getAllocatedBytes(int index) {
+        return allocatedBytes[index];
+    }
+
+    /**
+     * @param index índice de la ejecución
+     * @return las recolecciones de basura durante la ejecución
+     */
+    public long getGcCount(int index) {
+        return gcCounts[index];
+    }
+
+    /**
+     * @param index índice de la ejecución
+     * @return el tiempo de recolección durante la ejecución, en milisegundos
+     */
+    public long getGcMillis(int index) {
+        return gcMillis[index];
+    }
+
+    /**
+     * @param index índice de la ejecución
+     * @return {@code true} si hubo al menos una recolección durante la
+     *         ejecución
+     */
+    public boolean overlapsGc(int index) {
+        return gcCounts[index] > 0;
+    }
+
+    /**
+     * @return el número de ejecuciones que se solaparon con una recolección
+     */
+    public int countGcOverlaps() {
+        int count = 0;
+        for (long gc : gcCounts) {
+            if (gc > 0)
+                count++;
+        }
+        return count;
+    }
+
+    /**
+     * @return la media de bytes reservados por ejecución, o -1 si la JVM no
+     *         los informa
+     */
+    public double getMeanAllocatedBytes() {
+        if (allocatedBytes.length == 0 || allocatedBytes[0] < 0) {
+            return -1;
+        }
+        return Arrays.stream(allocatedBytes).average().orElse(0);
+    }
+}
@@ -0,0 +1,47 @@
+package ec.edu.epn.model.benchmark;
+
+/**
+ * Fase del compilador JIT en la que se tomó una ejecución medida por un
+ * {@link MeasurementEngine}.
+ *
+ * <p>
+ * Las primeras ejecuciones de un algoritmo corren en el intérprete o con
+ * código compilado por C1; solo después de varias el compilador C2 produce el
+ * código que se usaría en producción. Por eso la primera medición de
+ * "Comparar Tiempos" no coincide con la quinta: etiquetar cada ejecución
+ * permite ver cuáles representan el régimen estable y cuáles no.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public enum RunPhase {
+
+    /**
+     * Ejecución de calentamiento más lenta que el doble de la mediana estable:
+     * código interpretado o recién compilado por C1.
+     */
+    COLD("Frío"),
+
+    /**
+     * Ejecución de calentamiento ya cercana al régimen estable, o ejecución
+     * medida durante la cual el JIT siguió compilando.
+     */
+    WARMING("Calentando"),
+
+    /** Ejecución medida en régimen estable, sin actividad del JIT */
+    STEADY("Estable");
+
+    private final String label;
+
+    RunPhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @return el nombre de la fase para mostrar en la interfaz y en Excel
+     */
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,68 @@
+package ec.edu.epn.model.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * Lecturas de la JVM que se toman antes y después de cada ejecución medida:
+ * bytes reservados por el hilo actual y número y tiempo de recolecciones de
+ * basura. La diferencia entre ambas lecturas se guarda en {@link RunCosts}.
+ *
+ * @author
+ * @version 1.0
+ */
+final class RunProbe {
+
+    /** Bean de hilos con contabilidad de memoria, o {@code null} si no la hay */
+    private static final com.sun.management.ThreadMXBean THREADS = threads();
+
+    /** Recolectores de basura de la JVM */
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private RunProbe() {
+    }
+
+    /**
+     * @return los bytes reservados hasta ahora por el hilo actual, o -1 si la
+     *         JVM no los informa
+     */
+    static long allocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * @return el número total de recolecciones de todos los recolectores
+     */
+    static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS)
+            count += Math.max(0, collector.getCollectionCount());
+        return count;
+    }
+
+    /**
+     * @return el tiempo acumulado de recolección de todos los recolectores, en
+     *         milisegundos
+     */
+    static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS)
+            millis += Math.max(0, collector.getCollectionTime());
+        return millis;
+    }
+
+    /**
+     * @return el bean de hilos si permite medir la memoria reservada por hilo
+     */
+    private static com.sun.management.ThreadMXBean threads() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemorySupported()) {
+            if (!threads.isThreadAllocatedMemoryEnabled())
+                threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        }
+        return null;
+    }
+}
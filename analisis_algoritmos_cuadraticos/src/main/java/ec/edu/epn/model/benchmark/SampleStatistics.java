@@ -0,0 +1,225 @@
+package ec.edu.epn.model.benchmark;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Resumen estadístico de un conjunto de muestras de tiempo.
+ *
+ * <p>
+ * Antes de resumir se descartan los valores atípicos con el criterio de Tukey:
+ * las muestras fuera de {@code [Q1 - 1.5·IQR, Q3 + 1.5·IQR]}, que en una
+ * medición de tiempos suelen ser interrupciones del sistema o pausas del
+ * recolector de basura y no el costo del algoritmo. Sobre el resto se calculan
+ * la media, el mínimo, el máximo, la mediana, los percentiles 90 y 99, la desviación estándar y un
+ * intervalo de confianza del 95 % para la media por bootstrap de percentiles
+ * ({@value #BOOTSTRAP_RESAMPLES} remuestreos).
+ * </p>
+ *
+ * <p>
+ * Con los intervalos se puede decir si dos algoritmos difieren de verdad: si
+ * los intervalos no se solapan, la diferencia no se explica por el ruido de
+ * la medición.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class SampleStatistics {
+
+    /** Remuestreos del intervalo de confianza */
+    public static final int BOOTSTRAP_RESAMPLES = 1_000;
+
+    /** Nivel de confianza del intervalo */
+    public static final double CONFIDENCE = 0.95;
+
+    /** Factor del rango intercuartílico que delimita los atípicos */
+    private static final double TUKEY_FENCE = 1.5;
+
+    /** Semilla del bootstrap, fija para que el mismo conjunto dé el mismo intervalo */
+    private static final long BOOTSTRAP_SEED = 42L;
+
+    private final int count;
+    private final int outliers;
+    private final double meanNanos;
+    private final long minNanos;
+    private final long maxNanos;
+    private final double medianNanos;
+    private final double p90Nanos;
+    private final double p99Nanos;
+    private final double stdDevNanos;
+    private final double ciLowNanos;
+    private final double ciHighNanos;
+
+    private SampleStatistics(int count, int outliers, double meanNanos, long minNanos, long maxNanos,
+            double medianNanos, double p90Nanos, double p99Nanos, double stdDevNanos, double ciLowNanos,
+            double ciHighNanos) {
+        this.count = count;
+        this.outliers = outliers;
+        this.meanNanos = meanNanos;
+        this.minNanos = minNanos;
+        this.maxNanos = maxNanos;
+        this.medianNanos = medianNanos;
+        this.p90Nanos = p90Nanos;
+        this.p99Nanos = p99Nanos;
+        this.stdDevNanos = stdDevNanos;
+        this.ciLowNanos = ciLowNanos;
+        this.ciHighNanos = ciHighNanos;
+    }
+
+    /**
+     * Resume las muestras indicadas.
+     *
+     * @param sampleNanos tiempos en nanosegundos; no se modifica
+     * @return el resumen, con todos los valores en cero si no hay muestras
+     */
+    public static SampleStatistics of(long[] sampleNanos) {
+        if (sampleNanos.length == 0) {
+            return new SampleStatistics(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        long[] sorted = sampleNanos.clone();
+        Arrays.sort(sorted);
+
+        // Descartar atípicos; con menos de cuatro muestras los cuartiles no
+        // dicen nada y se conservan todas
+        long[] kept = sorted;
+        if (sorted.length >= 4) {
+            double q1 = percentile(sorted, 0.25);
+            double q3 = percentile(sorted, 0.75);
+            double fence = TUKEY_FENCE * (q3 - q1);
+            int from = 0;
+            int to = sorted.length;
+            while (from < to && sorted[from] < q1 - fence)
+                from++;
+            while (to > from && sorted[to - 1] > q3 + fence)
+                to--;
+            kept = Arrays.copyOfRange(sorted, from, to);
+        }
+
+        int n = kept.length;
+        double mean = mean(kept);
+        double squares = 0;
+        for (long sample : kept)
+            squares += (sample - mean) * (sample - mean);
+        double stdDev = n > 1 ? Math.sqrt(squares / (n - 1)) : 0;
+
+        double[] ci = bootstrapMean(kept);
+        return new SampleStatistics(n, sorted.length - n, mean, kept[0], kept[n - 1], percentile(kept, 0.5),
+                percentile(kept, 0.9), percentile(kept, 0.99), stdDev, ci[0], ci[1]);
+    }
+
+    /**
+     * Percentil por interpolación lineal entre las dos muestras más cercanas.
+     *
+     * @param sorted muestras en orden creciente, al menos una
+     * @param p      fracción entre 0 y 1
+     * @return el percentil
+     */
+    private static double percentile(long[] sorted, double p) {
+        double position = p * (sorted.length - 1);
+        int lower = (int) position;
+        int upper = Math.min(lower + 1, sorted.length - 1);
+        return sorted[lower] + (position - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    /**
+     * @param samples muestras, al menos una
+     * @return la media de las muestras
+     */
+    private static double mean(long[] samples) {
+        double sum = 0;
+        for (long sample : samples)
+            sum += sample;
+        return sum / samples.length;
+    }
+
+    /**
+     * Intervalo de confianza de la media por bootstrap de percentiles:
+     * remuestrea con reemplazo, calcula la media de cada remuestreo y toma
+     * los percentiles de las colas.
+     *
+     * @param samples muestras, al menos una
+     * @return el límite inferior y el superior
+     */
+    private static double[] bootstrapMean(long[] samples) {
+        int n = samples.length;
+        SplittableRandom rnd = new SplittableRandom(BOOTSTRAP_SEED);
+        long[] means = new long[BOOTSTRAP_RESAMPLES];
+        for (int b = 0; b < BOOTSTRAP_RESAMPLES; b++) {
+            double sum = 0;
+            for (int i = 0; i < n; i++)
+                sum += samples[rnd.nextInt(n)];
+            means[b] = Math.round(sum / n);
+        }
+        Arrays.sort(means);
+        double tail = (1 - CONFIDENCE) / 2;
+        return new double[] { percentile(means, tail), percentile(means, 1 - tail) };
+    }
+
+    /** @return el número de muestras que quedaron tras descartar atípicos */
+    public int getCount() {
+        return count;
+    }
+
+    /** @return el número de muestras descartadas como atípicas */
+    public int getOutliers() {
+        return outliers;
+    }
+
+    /** @return la media en milisegundos */
+    public double getMeanMillis() {
+        return meanNanos / 1_000_000.0;
+    }
+
+    /** @return el tiempo mínimo sin atípicos, en milisegundos */
+    public double getMinMillis() {
+        return minNanos / 1_000_000.0;
+    }
+
+    /** @return el tiempo máximo sin atípicos, en milisegundos */
+    public double getMaxMillis() {
+        return maxNanos / 1_000_000.0;
+    }
+
+    /** @return la mediana en milisegundos */
+    public double getMedianMillis() {
+        return medianNanos / 1_000_000.0;
+    }
+
+    /** @return el percentil 90 en milisegundos */
+    public double getP90Millis() {
+        return p90Nanos / 1_000_000.0;
+    }
+
+    /** @return el percentil 99 en milisegundos */
+    public double getP99Millis() {
+        return p99Nanos / 1_000_000.0;
+    }
+
+    /** @return la desviación estándar muestral en milisegundos */
+    public double getStdDevMillis() {
+        return stdDevNanos / 1_000_000.0;
+    }
+
+    /** @return el límite inferior del intervalo de confianza de la media, en ms */
+    public double getCiLowMillis() {
+        return ciLowNanos / 1_000_000.0;
+    }
+
+    /** @return el límite superior del intervalo de confianza de la media, en ms */
+    public double getCiHighMillis() {
+        return ciHighNanos / 1_000_000.0;
+    }
+
+    /**
+     * Indica si el intervalo de confianza de este resumen se solapa con el de
+     * otro. Si no se solapan, las medias difieren más de lo que explica el
+     * ruido.
+     *
+     * @param other otro resumen
+     * @return {@code true} si los intervalos comparten algún valor
+     */
+    public boolean overlaps(SampleStatistics other) {
+        return ciLowNanos <= other.ciHighNanos && other.ciLowNanos <= ciHighNanos;
+    }
+}
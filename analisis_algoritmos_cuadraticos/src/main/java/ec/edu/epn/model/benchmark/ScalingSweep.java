@@ -0,0 +1,164 @@
+package ec.edu.epn.model.benchmark;
+
+import ec.edu.epn.model.SortAlgorithm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntFunction;
+
+/**
+ * Motor de barrido de escalabilidad.
+ *
+ * Ejecuta cada {@link SortAlgorithm} sobre una serie geométrica de tamaños
+ * (por ejemplo 16, 32, 64, ... hasta cientos de miles de elementos), midiendo
+ * cada tamaño con un {@link MeasurementEngine} (calentamiento hasta régimen
+ * estable y varias muestras), y devuelve una {@link SweepCurve} completa por
+ * algoritmo.
+ *
+ * Todos los algoritmos ordenan la misma entrada para cada tamaño. Cuando una
+ * ejecución supera el límite de tiempo configurado, ese algoritmo deja de
+ * medirse en los tamaños siguientes: la curva termina justo donde el tiempo
+ * se dispara.
+ *
+ * Ejemplo de uso:
+ *
+ * <pre>{@code
+ * MeasurementEngine engine = new MeasurementEngine(50, 3, 15, 1000);
+ * ScalingSweep sweep = new ScalingSweep(16, 262_144, 2.0, engine, 500);
+ * List<SweepCurve> curves = sweep.run(SortAlgorithms.all(), n -> generate(n));
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ScalingSweep {
+
+    /** Tamaño inicial del barrido */
+    private final int minSize;
+
+    /** Tamaño máximo del barrido */
+    private final int maxSize;
+
+    /** Factor de crecimiento entre tamaños consecutivos */
+    private final double growthFactor;
+
+    /** Motor que mide cada tamaño */
+    private final MeasurementEngine engine;
+
+    /** Tiempo máximo de una ejecución antes de cortar la curva, en ms */
+    private final double timeLimitMillis;
+
+    /**
+     * Crea un barrido con la configuración indicada.
+     *
+     * @param minSize         tamaño inicial (mayor que 0)
+     * @param maxSize         tamaño máximo (mayor o igual que minSize)
+     * @param growthFactor    factor geométrico entre tamaños (mayor que 1)
+     * @param engine          motor que mide cada tamaño
+     * @param timeLimitMillis límite de tiempo por ejecución en milisegundos
+     * @throws IllegalArgumentException si algún parámetro no es válido
+     */
+    public ScalingSweep(int minSize, int maxSize, double growthFactor, MeasurementEngine engine,
+            double timeLimitMillis) {
+        if (minSize <= 0 || maxSize < minSize) {
+            throw new IllegalArgumentException("Rango de tamaños inválido: " + minSize + ".." + maxSize);
+        }
+        if (growthFactor <= 1.0) {
+            throw new IllegalArgumentException("El factor de crecimiento debe ser mayor que 1");
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.growthFactor = growthFactor;
+        this.engine = engine;
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    /**
+     * Calcula la serie geométrica de tamaños del barrido. El último tamaño es
+     * siempre {@code maxSize}.
+     *
+     * @return los tamaños en orden creciente y sin repetidos
+     */
+    public int[] sizes() {
+        List<Integer> result = new ArrayList<>();
+        double current = minSize;
+        while (current < maxSize) {
+            int size = (int) Math.round(current);
+            if (result.isEmpty() || result.get(result.size() - 1) != size) {
+                result.add(size);
+            }
+            current *= growthFactor;
+        }
+        if (result.isEmpty() || result.get(result.size() - 1) != maxSize) {
+            result.add(maxSize);
+        }
+        return result.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Ejecuta el barrido para todos los algoritmos indicados.
+     *
+     * @param algorithms   algoritmos a medir
+     * @param inputFactory genera la entrada para un tamaño dado; se llama una
+     *                     vez por tamaño y la entrada se comparte entre todos
+     *                     los algoritmos
+     * @return una curva por algoritmo, en el mismo orden recibido
+     */
+    public List<SweepCurve> run(List<SortAlgorithm> algorithms, IntFunction<int[]> inputFactory) {
+        return run(algorithms, inputFactory, () -> false);
+    }
+
+    /**
+     * Ejecuta el barrido para todos los algoritmos indicados hasta terminar o
+     * hasta que se cancele. La cancelación se consulta antes de cada tamaño y
+     * de cada algoritmo, así que la medición en curso termina antes de
+     * detenerse.
+     *
+     * @param algorithms   algoritmos a medir
+     * @param inputFactory genera la entrada para un tamaño dado; se llama una
+     *                     vez por tamaño y la entrada se comparte entre todos
+     *                     los algoritmos
+     * @param cancelled    indica si hay que detener el barrido; se consulta
+     *                     desde el hilo que llama
+     * @return una curva por algoritmo, en el mismo orden recibido; si se
+     *         canceló, solo con los tamaños medidos hasta entonces
+     */
+    public List<SweepCurve> run(List<SortAlgorithm> algorithms, IntFunction<int[]> inputFactory,
+            BooleanSupplier cancelled) {
+        List<SweepCurve> curves = new ArrayList<>();
+        for (SortAlgorithm algorithm : algorithms) {
+            curves.add(new SweepCurve(algorithm.getName()));
+        }
+
+        for (int size : sizes()) {
+            if (cancelled.getAsBoolean()) {
+                return curves;
+            }
+            int[] input = inputFactory.apply(size);
+            int[] work = new int[size];
+
+            for (int a = 0; a < algorithms.size(); a++) {
+                SweepCurve curve = curves.get(a);
+                if (curve.isTruncated()) {
+                    continue;
+                }
+                if (cancelled.getAsBoolean()) {
+                    return curves;
+                }
+                SortAlgorithm algorithm = algorithms.get(a);
+
+                Measurement measurement = engine.measure(algorithm, input, work);
+                long min = Long.MAX_VALUE;
+                for (long sample : measurement.getSampleNanos())
+                    min = Math.min(min, sample);
+                curve.add(size, measurement);
+
+                if (min / 1_000_000.0 > timeLimitMillis && size < maxSize) {
+                    curve.markTruncated();
+                }
+            }
+        }
+        return curves;
+    }
+}
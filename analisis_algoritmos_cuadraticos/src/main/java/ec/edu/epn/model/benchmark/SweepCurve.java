@@ -0,0 +1,194 @@
+package ec.edu.epn.model.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Curva medida de un algoritmo de ordenamiento: tiempo de ejecución para cada
+ * tamaño de arreglo recorrido por un {@link ScalingSweep}.
+ *
+ * Los tiempos se guardan en milisegundos como {@code double}, de modo que los
+ * arreglos pequeños no se redondean a cero. De cada punto se guarda su
+ * resumen estadístico ({@link SampleStatistics}) y todas las ejecuciones en
+ * nanosegundos, incluidas las de calentamiento, con su {@link RunPhase} y sus
+ * {@link RunCosts}, para poder exportarlas con {@link #toResults}.
+ *
+ * @author
+ * @version 1.0
+ */
+public class SweepCurve {
+
+    /** Nombre del algoritmo medido */
+    private final String algorithmName;
+
+    /** Tamaños medidos, en orden creciente */
+    private int[] sizes = new int[8];
+
+    /** Ejecuciones de cada tamaño con su fase y su resumen */
+    private BenchmarkResult[] points = new BenchmarkResult[8];
+
+    /** Indica, por tamaño, si el calentamiento alcanzó el régimen estable */
+    private boolean[] steady = new boolean[8];
+
+    /** Número de puntos medidos */
+    private int count;
+
+    /** Indica si la curva se cortó por superar el límite de tiempo */
+    private boolean truncated;
+
+    /**
+     * Crea una curva vacía para el algoritmo indicado.
+     *
+     * @param algorithmName nombre del algoritmo
+     */
+    public SweepCurve(String algorithmName) {
+        this.algorithmName = algorithmName;
+    }
+
+    /**
+     * Añade un punto medido a la curva.
+     *
+     * @param size        tamaño del arreglo
+     * @param measurement ejecuciones de calentamiento y medidas del tamaño
+     */
+    void add(int size, Measurement measurement) {
+        if (count == sizes.length) {
+            sizes = Arrays.copyOf(sizes, count * 2);
+            points = Arrays.copyOf(points, count * 2);
+            steady = Arrays.copyOf(steady, count * 2);
+        }
+        sizes[count] = size;
+        points[count] = new BenchmarkResult(algorithmName, "", size, measurement.getRunNanos(),
+                measurement.getPhases(), measurement.getCosts());
+        steady[count] = measurement.isSteady();
+        count++;
+    }
+
+    /**
+     * Marca la curva como cortada por el límite de tiempo.
+     */
+    void markTruncated() {
+        truncated = true;
+    }
+
+    /**
+     * @return el nombre del algoritmo medido
+     */
+    public String getAlgorithmName() {
+        return algorithmName;
+    }
+
+    /**
+     * @return el número de puntos de la curva
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param index índice del punto
+     * @return el tamaño de arreglo del punto
+     */
+    public int getSize(int index) {
+        return sizes[index];
+    }
+
+    /**
+     * @param index índice del punto
+     * @return el tiempo medio del punto en milisegundos, sin atípicos
+     */
+    public double getMeanMillis(int index) {
+        return points[index].getStatistics().getMeanMillis();
+    }
+
+    /**
+     * @param index índice del punto
+     * @return el tiempo mediano del punto en milisegundos
+     */
+    public double getMedianMillis(int index) {
+        return points[index].getStatistics().getMedianMillis();
+    }
+
+    /**
+     * @param index índice del punto
+     * @return el resumen estadístico del punto
+     */
+    public SampleStatistics getStatistics(int index) {
+        return points[index].getStatistics();
+    }
+
+    /**
+     * @param index índice del punto
+     * @return {@code true} si el punto se midió en régimen estable
+     */
+    public boolean isSteady(int index) {
+        return steady[index];
+    }
+
+    /**
+     * @param index índice del punto
+     * @param phase fase buscada
+     * @return cuántas ejecuciones del punto se tomaron en esa fase
+     */
+    public int countRuns(int index, RunPhase phase) {
+        int runs = 0;
+        for (int i = 0; i < points[index].getSampleCount(); i++) {
+            if (points[index].getPhase(i) == phase)
+                runs++;
+        }
+        return runs;
+    }
+
+    /**
+     * @param index índice del punto
+     * @return el tiempo de la primera ejecución del punto en milisegundos,
+     *         la más fría
+     */
+    public double getFirstRunMillis(int index) {
+        return points[index].getSampleNanos()[0] / 1_000_000.0;
+    }
+
+    /**
+     * @param index índice del punto
+     * @return la memoria y las recolecciones de cada ejecución del punto
+     */
+    public RunCosts getCosts(int index) {
+        return points[index].getCosts();
+    }
+
+    /**
+     * @param index índice del punto
+     * @return el tiempo mínimo del punto en milisegundos
+     */
+    public double getMinMillis(int index) {
+        return points[index].getMinMillis();
+    }
+
+    /**
+     * Convierte los puntos de la curva en resultados con sus muestras
+     * individuales, por ejemplo para exportarlos.
+     *
+     * @param listType tipo de lista con el que se midió la curva
+     * @return un resultado por tamaño medido
+     */
+    public List<BenchmarkResult> toResults(String listType) {
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long[] runs = points[i].getSampleNanos();
+            RunPhase[] phases = new RunPhase[runs.length];
+            for (int r = 0; r < runs.length; r++)
+                phases[r] = points[i].getPhase(r);
+            results.add(new BenchmarkResult(algorithmName, listType, sizes[i], runs, phases, points[i].getCosts()));
+        }
+        return results;
+    }
+
+    /**
+     * @return {@code true} si el barrido dejó de medir este algoritmo antes
+     *         del tamaño máximo porque una ejecución superó el límite de tiempo
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,60 @@
+package ec.edu.epn.model.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de Java Flight Recorder que cubre un lote de eventos de una traza
+ * aplicado en un pulso del hilo de JavaFX, incluido el redibujado. Un pulso
+ * largo se ve como un cuadro perdido en la animación.
+ *
+ * @author
+ * @version 1.0
+ */
+@Name("ec.edu.epn.AnimationFrame")
+@Label("Cuadro de animación")
+@Category({ "Análisis de algoritmos", "Animación" })
+@Description("Eventos de la traza aplicados y redibujados en un pulso de JavaFX")
+@StackTrace(false)
+public class AnimationFrameEvent extends Event {
+
+    @Label("Algoritmo")
+    private String algorithm;
+
+    @Label("Tamaño")
+    private int size;
+
+    @Label("Tipo de lista")
+    private String inputShape;
+
+    @Label("Comparaciones")
+    @Description("Comparaciones de la traza aplicadas en el pulso")
+    private long comparisons;
+
+    @Label("Eventos aplicados")
+    private long events;
+
+    /**
+     * Confirma el pulso ya terminado con sus datos, si la grabación lo pide.
+     *
+     * @param algorithm   nombre del algoritmo reproducido
+     * @param size        número de elementos del arreglo
+     * @param inputShape  tipo de lista de la entrada
+     * @param comparisons comparaciones aplicadas en el pulso
+     * @param events      eventos de la traza aplicados en el pulso
+     */
+    public void record(String algorithm, int size, String inputShape, long comparisons, long events) {
+        if (shouldCommit()) {
+            this.algorithm = algorithm;
+            this.size = size;
+            this.inputShape = inputShape;
+            this.comparisons = comparisons;
+            this.events = events;
+            commit();
+        }
+    }
+}
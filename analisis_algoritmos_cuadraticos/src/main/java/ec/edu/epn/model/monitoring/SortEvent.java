@@ -0,0 +1,62 @@
+package ec.edu.epn.model.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de Java Flight Recorder que cubre una llamada completa a
+ * {@link ec.edu.epn.model.SortAlgorithm#sort(int[])}. La duración la registra
+ * el propio evento entre {@link #begin()} y {@link #end()}.
+ *
+ * <p>
+ * Se graba con {@code -XX:StartFlightRecording} o desde JDK Mission Control,
+ * y permite relacionar los ordenamientos lentos con las recolecciones de
+ * basura, las pausas en puntos seguros y la actividad del JIT de la misma
+ * grabación. Si el evento no está habilitado, su costo es despreciable.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+@Name("ec.edu.epn.Sort")
+@Label("Ordenamiento")
+@Category({ "Análisis de algoritmos", "Ordenamiento" })
+@Description("Una llamada completa a sort sobre un arreglo")
+@StackTrace(false)
+public class SortEvent extends Event {
+
+    @Label("Algoritmo")
+    private String algorithm;
+
+    @Label("Tamaño")
+    private int size;
+
+    @Label("Tipo de lista")
+    private String inputShape;
+
+    @Label("Comparaciones")
+    @Description("Comparaciones predichas del ordenamiento, o -1 si no hay modelo")
+    private long comparisons;
+
+    /**
+     * Confirma el evento ya terminado con sus datos, si la grabación lo pide.
+     *
+     * @param algorithm   nombre del algoritmo
+     * @param size        número de elementos ordenados
+     * @param inputShape  tipo de lista de la entrada
+     * @param comparisons comparaciones realizadas, o -1 si no se conocen
+     */
+    public void record(String algorithm, int size, String inputShape, long comparisons) {
+        if (shouldCommit()) {
+            this.algorithm = algorithm;
+            this.size = size;
+            this.inputShape = inputShape;
+            this.comparisons = comparisons;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package ec.edu.epn.model.monitoring;
+
+import ec.edu.epn.model.OperationPredictor;
+import ec.edu.epn.model.SortAlgorithm;
+import jdk.jfr.EventType;
+
+/**
+ * Datos compartidos por los eventos de Java Flight Recorder de ordenamiento.
+ *
+ * <p>
+ * Los algoritmos no saben de qué tipo de lista es la entrada, así que quien
+ * la genera lo declara para su hilo con {@link #setInputShape(String)} y los
+ * eventos lo leen con {@link #inputShape()} solo cuando se graban.
+ * </p>
+ *
+ * <p>
+ * Los algoritmos consultan {@link #isPassRecorded()} una vez por llamada, sin
+ * crear ningún objeto, y solo si la grabación lo pide ejecutan la variante que
+ * graba cada pasada; así el bucle sin instrumentar no cambia.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class SortEvents {
+
+    /** Tipo de lista que se está ordenando en cada hilo */
+    private static final ThreadLocal<String> INPUT_SHAPE = ThreadLocal.withInitial(() -> "");
+
+    /** Tipos de evento, para consultar si están habilitados sin instanciarlos */
+    private static final EventType SORT = EventType.getEventType(SortEvent.class);
+    private static final EventType PASS = EventType.getEventType(SortPassEvent.class);
+
+    private SortEvents() {
+    }
+
+    /**
+     * @return el tipo de lista declarado para el hilo actual, o un texto
+     *         vacío si no se declaró
+     */
+    public static String inputShape() {
+        return INPUT_SHAPE.get();
+    }
+
+    /**
+     * Declara el tipo de lista que ordena el hilo actual.
+     *
+     * @param inputShape tipo de lista, o {@code null} para olvidarlo
+     * @return el tipo declarado antes, para poder restaurarlo
+     */
+    public static String setInputShape(String inputShape) {
+        String previous = INPUT_SHAPE.get();
+        if (inputShape == null)
+            INPUT_SHAPE.remove();
+        else
+            INPUT_SHAPE.set(inputShape);
+        return previous;
+    }
+
+    /**
+     * @return {@code true} si la grabación en curso incluye
+     *         {@link SortEvent}
+     */
+    public static boolean isSortRecorded() {
+        return SORT.isEnabled();
+    }
+
+    /**
+     * @return {@code true} si la grabación en curso incluye
+     *         {@link SortPassEvent}
+     */
+    public static boolean isPassRecorded() {
+        return PASS.isEnabled();
+    }
+
+    /**
+     * Devuelve las comparaciones que hará el algoritmo sobre la entrada según
+     * {@link OperationPredictor}, sin ejecutarlo: una fórmula cerrada para
+     * Bubble Sort y Selection Sort y un conteo de inversiones en
+     * O(n log n) para Insertion Sort.
+     *
+     * @param algorithm algoritmo
+     * @param input     entrada; no se modifica
+     * @return las comparaciones, o -1 si no hay modelo para el algoritmo
+     */
+    public static long comparisons(SortAlgorithm algorithm, int[] input) {
+        if (!OperationPredictor.hasModel(algorithm.getName())) {
+            return -1;
+        }
+        return OperationPredictor.predict(algorithm.getName(), input).getComparisons();
+    }
+}
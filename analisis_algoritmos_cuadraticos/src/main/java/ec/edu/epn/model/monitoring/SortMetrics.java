@@ -0,0 +1,252 @@
+package ec.edu.epn.model.monitoring;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métricas en vivo de un algoritmo de ordenamiento, publicadas por JMX en el
+ * servidor de MBeans de la plataforma (ver {@link SortMetricsMXBean}).
+ *
+ * <p>
+ * Registrar un ordenamiento con {@link #record(int, long)} no toma ningún
+ * cerrojo: los contadores son {@link LongAdder}, que reparten las sumas entre
+ * celdas por hilo, y la última duración es una escritura volátil. Así los
+ * hilos que ordenan en paralelo no compiten entre sí; el costo de sumar las
+ * celdas lo paga quien consulta.
+ * </p>
+ *
+ * <p>
+ * El histograma de duraciones y el ritmo de elementos por segundo cubren una
+ * ventana deslizante de {@value #WINDOW_SECONDS} s, dividida en
+ * {@value #SLICES} franjas que se reutilizan en círculo. Cuando una franja
+ * caduca, el primer hilo que la necesita la pone a cero; los registros que
+ * coincidan con ese instante pueden perderse, algo aceptable en una métrica
+ * de supervisión.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public final class SortMetrics implements SortMetricsMXBean {
+
+    /** Dominio de los nombres JMX */
+    public static final String DOMAIN = "ec.edu.epn";
+
+    /** Franjas de la ventana deslizante */
+    private static final int SLICES = 6;
+
+    /** Duración de cada franja, en segundos */
+    private static final long SLICE_SECONDS = 10;
+
+    /** Duración de la ventana deslizante, en segundos */
+    private static final long WINDOW_SECONDS = SLICES * SLICE_SECONDS;
+
+    private static final long SLICE_NANOS = SLICE_SECONDS * 1_000_000_000L;
+
+    /** Límite superior (excluido) de cada intervalo del histograma, en ns */
+    private static final long[] BUCKET_BOUNDS = { 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L, 10_000_000_000L };
+
+    private static final String[] BUCKET_LABELS = { "< 10 µs", "10 µs - 100 µs", "100 µs - 1 ms", "1 ms - 10 ms",
+            "10 ms - 100 ms", "100 ms - 1 s", "1 s - 10 s", ">= 10 s" };
+
+    /** Métricas de cada algoritmo, por nombre */
+    private static final ConcurrentMap<String, SortMetrics> REGISTRY = new ConcurrentHashMap<>();
+
+    private final String algorithm;
+    private final LongAdder sorts = new LongAdder();
+    private final LongAdder elements = new LongAdder();
+    private volatile long lastLatencyNanos;
+    private volatile long startNanos = System.nanoTime();
+    private final Slice[] slices = new Slice[SLICES];
+
+    /**
+     * @param algorithm nombre del algoritmo
+     */
+    private SortMetrics(String algorithm) {
+        this.algorithm = algorithm;
+        for (int i = 0; i < SLICES; i++)
+            slices[i] = new Slice();
+    }
+
+    /**
+     * Devuelve las métricas del algoritmo, creándolas y registrándolas en el
+     * servidor de MBeans de la plataforma la primera vez que se piden.
+     *
+     * @param algorithm nombre del algoritmo
+     * @return las métricas del algoritmo
+     * @throws IllegalStateException si el servidor de MBeans rechaza el
+     *                               registro
+     */
+    public static SortMetrics of(String algorithm) {
+        return REGISTRY.computeIfAbsent(algorithm, SortMetrics::register);
+    }
+
+    /**
+     * @param algorithm nombre del algoritmo
+     * @return el nombre JMX de las métricas del algoritmo
+     * @throws IllegalArgumentException si el nombre no es válido
+     */
+    public static ObjectName objectName(String algorithm) {
+        try {
+            return new ObjectName(DOMAIN + ":type=SortMetrics,name=" + ObjectName.quote(algorithm));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Nombre JMX inválido para " + algorithm, e);
+        }
+    }
+
+    /**
+     * Crea las métricas de un algoritmo y las registra.
+     *
+     * @param algorithm nombre del algoritmo
+     * @return las métricas registradas
+     */
+    private static SortMetrics register(String algorithm) {
+        SortMetrics metrics = new SortMetrics(algorithm);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName(algorithm));
+        } catch (JMException e) {
+            throw new IllegalStateException("No se pudo registrar el MBean de " + algorithm, e);
+        }
+        return metrics;
+    }
+
+    /**
+     * Registra un ordenamiento terminado. No bloquea.
+     *
+     * @param size  número de elementos ordenados
+     * @param nanos duración del ordenamiento, en nanosegundos
+     */
+    public void record(int size, long nanos) {
+        sorts.increment();
+        elements.add(size);
+        lastLatencyNanos = nanos;
+        Slice slice = current(System.nanoTime());
+        slice.elements.add(size);
+        slice.counts[bucket(nanos)].increment();
+    }
+
+    /**
+     * @param nanos duración
+     * @return el intervalo del histograma que le corresponde
+     */
+    private static int bucket(long nanos) {
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS.length && nanos >= BUCKET_BOUNDS[bucket])
+            bucket++;
+        return bucket;
+    }
+
+    /**
+     * Devuelve la franja del instante indicado, poniéndola a cero si todavía
+     * guarda datos de una vuelta anterior.
+     *
+     * @param now instante según {@link System#nanoTime()}
+     * @return la franja vigente
+     */
+    private Slice current(long now) {
+        long epoch = Math.floorDiv(now, SLICE_NANOS);
+        Slice slice = slices[Math.floorMod(epoch, SLICES)];
+        long seen = slice.epoch.get();
+        if (seen != epoch && slice.epoch.compareAndSet(seen, epoch))
+            slice.clear();
+        return slice;
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public long getSorts() {
+        return sorts.sum();
+    }
+
+    @Override
+    public long getElementsSorted() {
+        return elements.sum();
+    }
+
+    @Override
+    public double getElementsPerSecond() {
+        long now = System.nanoTime();
+        long oldest = Math.floorDiv(now, SLICE_NANOS) - SLICES + 1;
+        long sum = 0;
+        for (Slice slice : slices) {
+            if (slice.epoch.get() >= oldest)
+                sum += slice.elements.sum();
+        }
+        long covered = now - Math.max(startNanos, oldest * SLICE_NANOS);
+        return covered <= 0 ? 0 : sum * 1e9 / covered;
+    }
+
+    @Override
+    public long getLastLatencyNanos() {
+        return lastLatencyNanos;
+    }
+
+    @Override
+    public long getWindowSeconds() {
+        return WINDOW_SECONDS;
+    }
+
+    @Override
+    public String[] getLatencyBuckets() {
+        return BUCKET_LABELS.clone();
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        long oldest = Math.floorDiv(System.nanoTime(), SLICE_NANOS) - SLICES + 1;
+        long[] histogram = new long[BUCKET_LABELS.length];
+        for (Slice slice : slices) {
+            if (slice.epoch.get() >= oldest) {
+                for (int b = 0; b < histogram.length; b++)
+                    histogram[b] += slice.counts[b].sum();
+            }
+        }
+        return histogram;
+    }
+
+    @Override
+    public void reset() {
+        sorts.reset();
+        elements.reset();
+        lastLatencyNanos = 0;
+        startNanos = System.nanoTime();
+        for (Slice slice : slices)
+            slice.clear();
+    }
+
+    /**
+     * Franja de la ventana deslizante: histograma y elementos ordenados
+     * durante {@value #SLICE_SECONDS} s.
+     */
+    private static final class Slice {
+
+        /** Número de franja desde el origen de {@link System#nanoTime()} */
+        final AtomicLong epoch = new AtomicLong(Long.MIN_VALUE);
+        final LongAdder[] counts = new LongAdder[BUCKET_LABELS.length];
+        final LongAdder elements = new LongAdder();
+
+        Slice() {
+            for (int b = 0; b < counts.length; b++)
+                counts[b] = new LongAdder();
+        }
+
+        /**
+         * Pone a cero los contadores de la franja.
+         */
+        void clear() {
+            for (LongAdder count : counts)
+                count.reset();
+            elements.reset();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package ec.edu.epn.model.monitoring;
+
+/**
+ * Interfaz de gestión JMX con el rendimiento en vivo de un algoritmo de
+ * ordenamiento. Cada algoritmo medido aparece en JConsole, VisualVM o
+ * cualquier cliente JMX como
+ * {@code ec.edu.epn:type=SortMetrics,name="<algoritmo>"}.
+ *
+ * @author
+ * @version 1.0
+ */
+public interface SortMetricsMXBean {
+
+    /** @return el nombre del algoritmo */
+    String getAlgorithm();
+
+    /** @return el número de ordenamientos registrados desde el inicio */
+    long getSorts();
+
+    /** @return el número de elementos ordenados desde el inicio */
+    long getElementsSorted();
+
+    /**
+     * @return los elementos ordenados por segundo en la ventana reciente (ver
+     *         {@link #getWindowSeconds()})
+     */
+    double getElementsPerSecond();
+
+    /** @return la duración del último ordenamiento, en nanosegundos */
+    long getLastLatencyNanos();
+
+    /** @return la duración de la ventana reciente, en segundos */
+    long getWindowSeconds();
+
+    /** @return la etiqueta de cada intervalo del histograma de duraciones */
+    String[] getLatencyBuckets();
+
+    /**
+     * @return cuántos ordenamientos de la ventana reciente cayeron en cada
+     *         intervalo de {@link #getLatencyBuckets()}
+     */
+    long[] getLatencyHistogram();
+
+    /**
+     * Pone a cero todos los contadores.
+     */
+    void reset();
+}
@@ -0,0 +1,65 @@
+package ec.edu.epn.model.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento de Java Flight Recorder que cubre una pasada del bucle externo de
+ * Bubble Sort o Selection Sort. Cada pasada hace n - 1 - i comparaciones, así
+ * que la duración de pasadas sucesivas debería decrecer de forma lineal; un
+ * salto en esa recta apunta a una causa externa (recolección, compilación o
+ * pausa en un punto seguro).
+ *
+ * <p>
+ * El tipo de lista se toma de {@link SortEvents#inputShape()}, porque el
+ * algoritmo no lo conoce.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+@Name("ec.edu.epn.SortPass")
+@Label("Pasada de ordenamiento")
+@Category({ "Análisis de algoritmos", "Ordenamiento" })
+@Description("Una pasada del bucle externo de Bubble Sort o Selection Sort")
+@StackTrace(false)
+public class SortPassEvent extends Event {
+
+    @Label("Algoritmo")
+    private String algorithm;
+
+    @Label("Tamaño")
+    private int size;
+
+    @Label("Tipo de lista")
+    private String inputShape;
+
+    @Label("Pasada")
+    private int pass;
+
+    @Label("Comparaciones")
+    private long comparisons;
+
+    /**
+     * Confirma la pasada ya terminada con sus datos, si la grabación lo pide.
+     *
+     * @param algorithm   nombre del algoritmo
+     * @param size        número de elementos del arreglo
+     * @param pass        índice de la pasada, desde 0
+     * @param comparisons comparaciones de la pasada
+     */
+    public void record(String algorithm, int size, int pass, long comparisons) {
+        if (shouldCommit()) {
+            this.algorithm = algorithm;
+            this.size = size;
+            this.inputShape = SortEvents.inputShape();
+            this.pass = pass;
+            this.comparisons = comparisons;
+            commit();
+        }
+    }
+}
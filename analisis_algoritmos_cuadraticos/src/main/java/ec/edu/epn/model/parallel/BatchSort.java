@@ -0,0 +1,224 @@
+package ec.edu.epn.model.parallel;
+
+import ec.edu.epn.model.RangeSortAlgorithm;
+import ec.edu.epn.model.SortAlgorithm;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ordena muchos arreglos pequeños (de 8 a 64 elementos, por ejemplo) en una
+ * sola llamada, repartiéndolos entre los núcleos con un {@link ForkJoinPool}.
+ *
+ * <p>
+ * Los arreglos se reciben como {@code int[][]} o como un único búfer plano con
+ * un arreglo de desplazamientos: el segmento {@code i} ocupa
+ * {@code [offsets[i], offsets[i + 1])}. El lote se divide por mitades hasta
+ * quedar en tramos de {@code grain} segmentos, que un hilo ordena en un bucle
+ * sin reservar memoria; los hilos libres roban las mitades pendientes de los
+ * demás, así que los segmentos más largos no dejan núcleos ociosos.
+ * </p>
+ *
+ * <p>
+ * El búfer plano necesita un {@link RangeSortAlgorithm}, que ordena cada
+ * segmento en su lugar sin copiarlo. El algoritmo se usa desde varios hilos a
+ * la vez, por lo que no debe guardar estado entre llamadas; los del proyecto
+ * no lo hacen.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class BatchSort {
+
+    /** Segmentos que ordena cada tarea cuando no se indica otro valor */
+    public static final int DEFAULT_GRAIN = 256;
+
+    /** Algoritmo que ordena cada segmento */
+    private final SortAlgorithm algorithm;
+
+    /** Hilos que ejecutan las tareas */
+    private final ForkJoinPool pool;
+
+    /** Segmentos por tarea */
+    private final int grain;
+
+    /**
+     * Crea un ordenamiento por lotes sobre el pool común, con
+     * {@value #DEFAULT_GRAIN} segmentos por tarea.
+     *
+     * @param algorithm algoritmo que ordena cada segmento
+     */
+    public BatchSort(SortAlgorithm algorithm) {
+        this(algorithm, ForkJoinPool.commonPool(), DEFAULT_GRAIN);
+    }
+
+    /**
+     * Crea un ordenamiento por lotes con el pool y el tamaño de tarea
+     * indicados.
+     *
+     * @param algorithm algoritmo que ordena cada segmento
+     * @param pool      pool que ejecuta las tareas
+     * @param grain     segmentos que ordena cada tarea (al menos 1)
+     * @throws IllegalArgumentException si el tamaño de tarea no es positivo
+     */
+    public BatchSort(SortAlgorithm algorithm, ForkJoinPool pool, int grain) {
+        if (grain < 1) {
+            throw new IllegalArgumentException("Segmentos por tarea inválidos: " + grain);
+        }
+        this.algorithm = algorithm;
+        this.pool = pool;
+        this.grain = grain;
+    }
+
+    /**
+     * Ordena cada arreglo del lote por separado.
+     *
+     * @param arrays los arreglos a ordenar, cada uno en su lugar
+     */
+    public void sortAll(int[][] arrays) {
+        if (arrays.length <= grain) {
+            sortArrays(arrays, 0, arrays.length);
+            return;
+        }
+        pool.invoke(new ArraysTask(arrays, 0, arrays.length));
+    }
+
+    /**
+     * Ordena cada segmento de un búfer plano por separado.
+     *
+     * @param buffer  búfer con los segmentos uno tras otro
+     * @param offsets inicio de cada segmento seguido del fin del último, por lo
+     *                que tiene un elemento más que segmentos hay
+     * @throws IllegalArgumentException si el algoritmo no ordena rangos o si
+     *                                  los desplazamientos no son crecientes o
+     *                                  se salen del búfer
+     */
+    public void sortAll(int[] buffer, int[] offsets) {
+        if (!(algorithm instanceof RangeSortAlgorithm)) {
+            throw new IllegalArgumentException("El algoritmo no ordena rangos: " + algorithm.getName());
+        }
+        checkOffsets(buffer, offsets);
+        int segments = offsets.length - 1;
+        if (segments <= grain) {
+            sortSegments((RangeSortAlgorithm) algorithm, buffer, offsets, 0, segments);
+            return;
+        }
+        pool.invoke(new SegmentsTask((RangeSortAlgorithm) algorithm, buffer, offsets, 0, segments));
+    }
+
+    /**
+     * @return el algoritmo que ordena cada segmento
+     */
+    public SortAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    /**
+     * Comprueba que los desplazamientos describen segmentos válidos del búfer.
+     *
+     * @param buffer  búfer con los segmentos
+     * @param offsets desplazamientos de los segmentos
+     */
+    private static void checkOffsets(int[] buffer, int[] offsets) {
+        if (offsets.length == 0) {
+            throw new IllegalArgumentException("Faltan desplazamientos: se necesita al menos el fin del búfer");
+        }
+        if (offsets[0] < 0 || offsets[offsets.length - 1] > buffer.length) {
+            throw new IllegalArgumentException("Desplazamientos fuera del búfer de longitud " + buffer.length);
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            if (offsets[i] < offsets[i - 1]) {
+                throw new IllegalArgumentException("Desplazamientos no crecientes en el segmento " + (i - 1));
+            }
+        }
+    }
+
+    /**
+     * Ordena los arreglos {@code [from, to)} del lote en el hilo actual.
+     *
+     * @param arrays los arreglos del lote
+     * @param from   primer arreglo, incluido
+     * @param to     último arreglo, excluido
+     */
+    private void sortArrays(int[][] arrays, int from, int to) {
+        for (int i = from; i < to; i++)
+            algorithm.sort(arrays[i]);
+    }
+
+    /**
+     * Ordena los segmentos {@code [from, to)} del búfer en el hilo actual.
+     *
+     * @param algorithm algoritmo que ordena cada segmento
+     * @param buffer    búfer con los segmentos
+     * @param offsets   desplazamientos de los segmentos
+     * @param from      primer segmento, incluido
+     * @param to        último segmento, excluido
+     */
+    private static void sortSegments(RangeSortAlgorithm algorithm, int[] buffer, int[] offsets, int from, int to) {
+        for (int i = from; i < to; i++)
+            algorithm.sort(buffer, offsets[i], offsets[i + 1]);
+    }
+
+    /**
+     * Tarea que divide un tramo de arreglos del lote hasta el tamaño de tarea.
+     */
+    private final class ArraysTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[][] arrays;
+        private final int from;
+        private final int to;
+
+        ArraysTask(int[][] arrays, int from, int to) {
+            this.arrays = arrays;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                sortArrays(arrays, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ArraysTask(arrays, from, mid), new ArraysTask(arrays, mid, to));
+        }
+    }
+
+    /**
+     * Tarea que divide un tramo de segmentos del búfer hasta el tamaño de
+     * tarea.
+     */
+    private final class SegmentsTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final RangeSortAlgorithm algorithm;
+        private final int[] buffer;
+        private final int[] offsets;
+        private final int from;
+        private final int to;
+
+        SegmentsTask(RangeSortAlgorithm algorithm, int[] buffer, int[] offsets, int from, int to) {
+            this.algorithm = algorithm;
+            this.buffer = buffer;
+            this.offsets = offsets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                sortSegments(algorithm, buffer, offsets, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SegmentsTask(algorithm, buffer, offsets, from, mid),
+                    new SegmentsTask(algorithm, buffer, offsets, mid, to));
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package ec.edu.epn.model.parallel;
+
+import ec.edu.epn.model.RangeSortAlgorithm;
+import ec.edu.epn.model.SortAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Ordenamiento paralelo por bloques: divide el arreglo en k bloques, ordena
+ * cada uno con un {@link SortAlgorithm} cualquiera en un {@link ForkJoinPool}
+ * y luego mezcla los bloques en paralelo.
+ *
+ * <p>
+ * Con un algoritmo cuadrático en las hojas, ordenar k bloques de n/k elementos
+ * cuesta k·(n/k)² = n²/k, y además los bloques se reparten entre los núcleos.
+ * La mezcla se hace en log₂ k rondas de mezclas por pares, O(n log k) en
+ * total; cada mezcla grande se divide a su vez por búsqueda binaria para que
+ * también se reparta entre hilos.
+ * </p>
+ *
+ * <p>
+ * La memoria auxiliar está acotada: un único búfer de n enteros que se alterna
+ * con el arreglo entre rondas de mezcla. El búfer pertenece al hilo que llama
+ * a {@link #sort(int[])} y se reutiliza en sus llamadas siguientes, así que
+ * ordenar no reserva memoria una vez que el búfer alcanzó el tamaño mayor
+ * (que el hilo conserva). Si el algoritmo de las hojas es un
+ * {@link RangeSortAlgorithm}, como los del proyecto, cada bloque se ordena en
+ * su lugar; si no, se ordena una copia del bloque. El algoritmo de las hojas
+ * se usa desde varios hilos a la vez, por lo que no debe guardar estado entre
+ * llamadas; los del proyecto no lo hacen.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ParallelChunkSort implements SortAlgorithm {
+
+    /** Bloques por hilo cuando no se indica el número de bloques */
+    public static final int DEFAULT_CHUNKS_PER_THREAD = 4;
+
+    /** Por debajo de este tamaño una mezcla se hace en un solo hilo */
+    private static final int SEQUENTIAL_MERGE = 1 << 13;
+
+    /** Por debajo de este tamaño por bloque no compensa paralelizar */
+    private static final int MIN_CHUNK = 64;
+
+    /** Búfer de mezcla de cada hilo que llama a {@link #sort(int[])} */
+    private static final ThreadLocal<int[]> MERGE_BUFFER = ThreadLocal.withInitial(() -> new int[0]);
+
+    /** Algoritmo que ordena cada bloque */
+    private final SortAlgorithm leaf;
+
+    /** Número de bloques */
+    private final int chunks;
+
+    /** Hilos que ejecutan las tareas */
+    private final ForkJoinPool pool;
+
+    /**
+     * Crea un ordenamiento paralelo sobre el pool común, con
+     * {@value #DEFAULT_CHUNKS_PER_THREAD} bloques por hilo.
+     *
+     * @param leaf algoritmo que ordena cada bloque
+     */
+    public ParallelChunkSort(SortAlgorithm leaf) {
+        this(leaf, ForkJoinPool.commonPool().getParallelism() * DEFAULT_CHUNKS_PER_THREAD,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Crea un ordenamiento paralelo con el número de bloques y el pool
+     * indicados.
+     *
+     * @param leaf   algoritmo que ordena cada bloque
+     * @param chunks número de bloques (al menos 1)
+     * @param pool   pool que ejecuta las tareas
+     * @throws IllegalArgumentException si el número de bloques no es positivo
+     */
+    public ParallelChunkSort(SortAlgorithm leaf, int chunks, ForkJoinPool pool) {
+        if (chunks < 1) {
+            throw new IllegalArgumentException("Número de bloques inválido: " + chunks);
+        }
+        this.leaf = leaf;
+        this.chunks = chunks;
+        this.pool = pool;
+    }
+
+    /**
+     * Ordena el arreglo por bloques en paralelo.
+     *
+     * @param array el arreglo de enteros a ordenar
+     */
+    @Override
+    public void sort(int[] array) {
+        int n = array.length;
+        int k = Math.min(chunks, Math.max(1, n / MIN_CHUNK));
+        if (k == 1) {
+            leaf.sort(array);
+            return;
+        }
+
+        int[] bounds = new int[k + 1];
+        for (int c = 0; c <= k; c++)
+            bounds[c] = (int) ((long) n * c / k);
+
+        int[] buffer = MERGE_BUFFER.get();
+        if (buffer.length < n) {
+            buffer = new int[n];
+            MERGE_BUFFER.set(buffer);
+        }
+        pool.invoke(new SortTask(array, bounds, buffer));
+    }
+
+    /**
+     * Mezcla los bloques ordenados por pares hasta que queda uno solo. Se
+     * ejecuta dentro del pool.
+     *
+     * @param array  arreglo con los bloques ordenados
+     * @param bounds límites de los bloques; se modifica
+     * @param buffer búfer auxiliar de al menos {@code array.length} enteros
+     */
+    private static void mergeRuns(int[] array, int[] bounds, int[] buffer) {
+        int[] src = array;
+        int[] dst = buffer;
+        int runs = bounds.length - 1;
+        while (runs > 1) {
+            List<ForkJoinTask<?>> merges = new ArrayList<>((runs + 1) / 2);
+            int next = 0;
+            for (int r = 0; r < runs; r += 2) {
+                int lo = bounds[r];
+                if (r + 1 < runs) {
+                    merges.add(new MergeTask(src, dst, lo, bounds[r + 1], bounds[r + 1], bounds[r + 2], lo));
+                } else {
+                    // Bloque impar sin pareja: pasa tal cual a la siguiente ronda
+                    System.arraycopy(src, lo, dst, lo, bounds[r + 1] - lo);
+                }
+                bounds[next++] = lo;
+            }
+            bounds[next] = array.length;
+            ForkJoinTask.invokeAll(merges);
+            runs = next;
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != array)
+            System.arraycopy(src, 0, array, 0, array.length);
+    }
+
+    /**
+     * Tarea raíz: ordena todos los bloques y luego los mezcla.
+     */
+    private final class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] array;
+        private final int[] bounds;
+        private final int[] buffer;
+
+        SortTask(int[] array, int[] bounds, int[] buffer) {
+            this.array = array;
+            this.bounds = bounds;
+            this.buffer = buffer;
+        }
+
+        @Override
+        protected void compute() {
+            int k = bounds.length - 1;
+            List<ForkJoinTask<?>> leaves = new ArrayList<>(k);
+            for (int c = 0; c < k; c++)
+                leaves.add(new LeafTask(array, bounds[c], bounds[c + 1]));
+            invokeAll(leaves);
+            mergeRuns(array, bounds, buffer);
+        }
+    }
+
+    /**
+     * Devuelve el nombre del algoritmo.
+     *
+     * @return "Parallel " seguido del nombre del algoritmo de las hojas
+     */
+    @Override
+    public String getName() {
+        return "Parallel " + leaf.getName();
+    }
+
+    /**
+     * Tarea que ordena un bloque con el algoritmo de las hojas.
+     */
+    private final class LeafTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] array;
+        private final int from;
+        private final int to;
+
+        LeafTask(int[] array, int from, int to) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (leaf instanceof RangeSortAlgorithm range) {
+                range.sort(array, from, to);
+                return;
+            }
+            int[] chunk = Arrays.copyOfRange(array, from, to);
+            leaf.sort(chunk);
+            System.arraycopy(chunk, 0, array, from, chunk.length);
+        }
+    }
+
+    /**
+     * Tarea que mezcla {@code src[lo1, hi1)} y {@code src[lo2, hi2)} en
+     * {@code dst} a partir de {@code out}. Si la mezcla es grande, toma la
+     * mediana del tramo más largo, busca su posición en el otro y mezcla las
+     * dos mitades en paralelo.
+     */
+    private static final class MergeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int[] src;
+        private final int[] dst;
+        private final int lo1;
+        private final int hi1;
+        private final int lo2;
+        private final int hi2;
+        private final int out;
+
+        MergeTask(int[] src, int[] dst, int lo1, int hi1, int lo2, int hi2, int out) {
+            this.src = src;
+            this.dst = dst;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int len1 = hi1 - lo1;
+            int len2 = hi2 - lo2;
+            if (len1 + len2 <= SEQUENTIAL_MERGE) {
+                merge();
+                return;
+            }
+            if (len1 < len2) {
+                new MergeTask(src, dst, lo2, hi2, lo1, hi1, out).compute();
+                return;
+            }
+            int mid1 = (lo1 + hi1) >>> 1;
+            int pivot = src[mid1];
+            int mid2 = lowerBound(src, lo2, hi2, pivot);
+            int pivotOut = out + (mid1 - lo1) + (mid2 - lo2);
+            dst[pivotOut] = pivot;
+            invokeAll(new MergeTask(src, dst, lo1, mid1, lo2, mid2, out),
+                    new MergeTask(src, dst, mid1 + 1, hi1, mid2, hi2, pivotOut + 1));
+        }
+
+        /**
+         * Mezcla secuencial de los dos tramos.
+         */
+        private void merge() {
+            int i = lo1;
+            int j = lo2;
+            int k = out;
+            while (i < hi1 && j < hi2)
+                dst[k++] = src[j] < src[i] ? src[j++] : src[i++];
+            System.arraycopy(src, i, dst, k, hi1 - i);
+            System.arraycopy(src, j, dst, k + (hi1 - i), hi2 - j);
+        }
+
+        /**
+         * @return la primera posición de {@code [lo, hi)} con un valor mayor o
+         *         igual que {@code key}
+         */
+        private static int lowerBound(int[] array, int lo, int hi, int key) {
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (array[mid] < key)
+                    lo = mid + 1;
+                else
+                    hi = mid;
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package ec.edu.epn.model.parallel;
+
+import ec.edu.epn.model.SortAlgorithm;
+
+import java.util.concurrent.Phaser;
+
+/**
+ * Ordenamiento por transposición par-impar en paralelo: la forma multinúcleo
+ * natural de Bubble Sort.
+ *
+ * <p>
+ * Cada ronda tiene una fase par, que compara e intercambia los pares
+ * {@code (0,1), (2,3), ...}, y una fase impar, con los pares
+ * {@code (1,2), (3,4), ...}. Dentro de una fase los pares son disjuntos, así
+ * que cada hilo procesa los de su franja contigua del arreglo sin
+ * sincronizarse; entre fases todos los hilos esperan en un {@link Phaser}.
+ * n fases bastan para ordenar cualquier entrada.
+ * </p>
+ *
+ * <p>
+ * Al terminar una fase todos los pares de su paridad quedan en orden. Si la
+ * fase siguiente, de la otra paridad, no intercambia nada, también quedan en
+ * orden los suyos sin tocar los anteriores, y el arreglo está ordenado. Por
+ * eso el algoritmo termina en la primera fase sin intercambios en ningún hilo,
+ * salvo que sea la fase 0: antes de ella los pares impares no estaban
+ * ordenados por ninguna fase anterior.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class ParallelOddEvenSort implements SortAlgorithm {
+
+    /** Elementos mínimos por franja para que compense otro hilo */
+    private static final int MIN_STRIPE = 256;
+
+    /** Hilos que participan, incluido el que llama a {@link #sort(int[])} */
+    private final int threads;
+
+    /**
+     * Crea el algoritmo con un hilo por núcleo disponible.
+     */
+    public ParallelOddEvenSort() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Crea el algoritmo con el número de hilos indicado.
+     *
+     * @param threads hilos que participan (al menos 1)
+     * @throws IllegalArgumentException si el número de hilos no es positivo
+     */
+    public ParallelOddEvenSort(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Número de hilos inválido: " + threads);
+        }
+        this.threads = threads;
+    }
+
+    /**
+     * Ordena el arreglo. El hilo que llama trabaja como uno más y los demás se
+     * crean para esta llamada y terminan con ella.
+     *
+     * @param array el arreglo de enteros a ordenar
+     * @throws IllegalStateException si el hilo se interrumpe mientras espera
+     *                               a los demás
+     */
+    @Override
+    public void sort(int[] array) {
+        int workers = workersFor(array.length);
+        Phaser phaser = new Phaser(workers);
+        boolean[] swappedInPhase = new boolean[3];
+
+        Thread[] helpers = new Thread[workers - 1];
+        for (int w = 1; w < workers; w++) {
+            int worker = w;
+            helpers[w - 1] = new Thread(() -> work(array, worker, workers, phaser, swappedInPhase),
+                    "odd-even-" + w);
+            helpers[w - 1].setDaemon(true);
+            helpers[w - 1].start();
+        }
+        work(array, 0, workers, phaser, swappedInPhase);
+
+        try {
+            for (Thread helper : helpers)
+                helper.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Ordenamiento interrumpido", e);
+        }
+    }
+
+    /**
+     * Devuelve cuántos hilos usa {@link #sort(int[])} con un arreglo de la
+     * longitud indicada: como mucho uno por cada {@value #MIN_STRIPE}
+     * elementos.
+     *
+     * @param length longitud del arreglo
+     * @return hilos que participan, incluido el que llama
+     */
+    public int workersFor(int length) {
+        return Math.max(1, Math.min(threads, length / MIN_STRIPE));
+    }
+
+    /**
+     * Devuelve cuántas fases hace el algoritmo con la entrada indicada,
+     * incluida la última sin intercambios. No depende del número de hilos;
+     * con más de un hilo cada fase termina en una barrera.
+     *
+     * @param array entrada; no se modifica
+     * @return el número de fases
+     */
+    public static int phases(int[] array) {
+        int[] copy = array.clone();
+        int phase = 0;
+        while (phase(copy, 0, copy.length, phase & 1) || phase == 0)
+            phase++;
+        return phase + 1;
+    }
+
+    /**
+     * Trabajo de un hilo: aplica las fases, alternando la paridad, a su franja
+     * hasta que una fase posterior a la 0 no intercambia nada.
+     *
+     * <p>
+     * {@code swappedInPhase[p % 3]} indica si algún hilo intercambió en la
+     * fase p. Todos la leen después de la barrera de fin de fase, y el hilo 0
+     * limpia tras esa barrera la casilla de la fase p + 2: ya nadie lee su uso
+     * anterior, la fase p - 1, y nadie escribe en ella hasta cruzar la
+     * barrera de la fase p + 1. Con solo dos casillas la limpieza podría
+     * borrar un intercambio de la fase p + 1. El {@link Phaser} garantiza que
+     * las escrituras anteriores a cada barrera sean visibles después de ella.
+     * </p>
+     *
+     * @param array          arreglo compartido
+     * @param worker         índice del hilo
+     * @param workers        número de hilos
+     * @param phaser         barrera entre fases
+     * @param swappedInPhase indicadores de intercambio de las tres últimas fases
+     */
+    private static void work(int[] array, int worker, int workers, Phaser phaser, boolean[] swappedInPhase) {
+        int n = array.length;
+        int from = (int) ((long) n * worker / workers);
+        int to = (int) ((long) n * (worker + 1) / workers);
+        boolean single = workers == 1;
+
+        for (int phase = 0;; phase++) {
+            boolean swapped = phase(array, from, to, phase & 1);
+            if (single) {
+                if (!swapped && phase > 0)
+                    return;
+                continue;
+            }
+            if (swapped)
+                swappedInPhase[phase % 3] = true;
+            phaser.arriveAndAwaitAdvance();
+            if (worker == 0)
+                swappedInPhase[(phase + 2) % 3] = false;
+            if (!swappedInPhase[phase % 3] && phase > 0)
+                return;
+        }
+    }
+
+    /**
+     * Compara e intercambia los pares {@code (i, i + 1)} con {@code i} de la
+     * paridad indicada y dentro de {@code [from, to)}.
+     *
+     * @param array  arreglo compartido
+     * @param from   inicio de la franja, incluido
+     * @param to     fin de la franja, excluido
+     * @param parity 0 para la fase par, 1 para la impar
+     * @return {@code true} si hubo algún intercambio
+     */
+    private static boolean phase(int[] array, int from, int to, int parity) {
+        int start = (from & 1) == parity ? from : from + 1;
+        int end = Math.min(to, array.length - 1);
+        boolean swapped = false;
+        for (int i = start; i < end; i += 2) {
+            if (array[i] > array[i + 1]) {
+                int temp = array[i];
+                array[i] = array[i + 1];
+                array[i + 1] = temp;
+                swapped = true;
+            }
+        }
+        return swapped;
+    }
+
+    /**
+     * Devuelve el nombre del algoritmo.
+     *
+     * @return el nombre "Parallel Odd-Even Sort"
+     */
+    @Override
+    public String getName() {
+        return "Parallel Odd-Even Sort";
+    }
+}
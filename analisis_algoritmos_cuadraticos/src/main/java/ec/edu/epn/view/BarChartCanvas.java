@@ -0,0 +1,238 @@
+package ec.edu.epn.view;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+import java.util.BitSet;
+
+/**
+ * Lienzo que dibuja un arreglo de enteros como barras verticales.
+ *
+ * <p>
+ * A diferencia de crear un {@code Rectangle} y un {@code Text} por elemento,
+ * todo se pinta sobre un único {@link Canvas}, por lo que el costo no depende
+ * del número de nodos de la escena. Solo se redibujan las columnas marcadas
+ * como modificadas y la escala vertical (valor máximo) se calcula una vez por
+ * arreglo, no en cada paso.
+ * </p>
+ *
+ * <p>
+ * Cuando hay más elementos que columnas de píxeles, cada columna agrupa varios
+ * elementos y muestra su mínimo y su máximo (nivel de detalle min/max): la
+ * barra sólida llega hasta el mínimo y una banda más clara hasta el máximo.
+ * </p>
+ *
+ * <p>
+ * Todos los métodos deben llamarse desde el hilo de JavaFX.
+ * </p>
+ *
+ * @author
+ * @version 1.0
+ */
+public class BarChartCanvas extends Canvas {
+
+    // Márgenes del área de dibujo, iguales a los de la vista con nodos
+    private static final double MARGIN_LEFT = 30;
+    private static final double MARGIN_RIGHT = 30;
+    private static final double MARGIN_TOP = 30;
+    private static final double MARGIN_BOTTOM = 20;
+
+    /** Ancho mínimo de barra para mostrar el valor encima */
+    private static final double MIN_LABEL_WIDTH = 14;
+
+    private final Color background;
+    private final Color barColor;
+    private final Color bandColor;
+    private final Color highlightColor;
+    private final Color accentColor;
+    private final Color textColor;
+
+    /** Arreglo que se dibuja (no se copia) */
+    private int[] data = new int[0];
+
+    /** Valor máximo del arreglo, usado como escala vertical */
+    private int maxValue = 1;
+
+    /** Número de columnas dibujadas: n, o el ancho útil en píxeles si n es mayor */
+    private int columns;
+
+    /** Ancho de cada columna en píxeles */
+    private double columnWidth;
+
+    /** Columnas pendientes de redibujar */
+    private final BitSet dirty = new BitSet();
+
+    /** Índices resaltados (-1 si no hay) */
+    private int highlightA = -1;
+    private int highlightB = -1;
+
+    /**
+     * Crea el lienzo con los colores de la aplicación.
+     *
+     * @param background     color de fondo
+     * @param barColor       color de las barras
+     * @param highlightColor color del primer elemento resaltado
+     * @param accentColor    color del segundo elemento resaltado
+     * @param textColor      color de los valores
+     */
+    public BarChartCanvas(String background, String barColor, String highlightColor, String accentColor,
+            String textColor) {
+        this.background = Color.web(background);
+        this.barColor = Color.web(barColor);
+        this.bandColor = this.barColor.deriveColor(0, 0.6, 1.4, 1);
+        this.highlightColor = Color.web(highlightColor);
+        this.accentColor = Color.web(accentColor);
+        this.textColor = Color.web(textColor);
+
+        widthProperty().addListener((obs, oldValue, newValue) -> redrawAll());
+        heightProperty().addListener((obs, oldValue, newValue) -> redrawAll());
+    }
+
+    /**
+     * Cambia el arreglo a dibujar, recalcula la escala y lo dibuja completo.
+     *
+     * @param data arreglo a representar; el lienzo lee directamente de él
+     */
+    public void setData(int[] data) {
+        this.data = data;
+        int max = 1;
+        for (int value : data)
+            max = Math.max(max, value);
+        maxValue = max;
+        highlightA = -1;
+        highlightB = -1;
+        redrawAll();
+    }
+
+    /**
+     * Marca como modificado el elemento {@code index}; se redibuja en el
+     * siguiente {@link #flush()}.
+     *
+     * @param index índice del elemento modificado
+     */
+    public void markDirty(int index) {
+        if (index < 0 || index >= data.length) {
+            return;
+        }
+        if (data[index] > maxValue) {
+            // La escala cambia: todas las barras deben redibujarse
+            maxValue = data[index];
+            dirty.set(0, columns);
+            return;
+        }
+        dirty.set(columnOf(index));
+    }
+
+    /**
+     * Resalta dos elementos y quita el resaltado anterior. Un índice negativo
+     * no resalta nada.
+     *
+     * @param first  índice resaltado con el color principal
+     * @param second índice resaltado con el color de acento
+     */
+    public void highlight(int first, int second) {
+        markDirty(highlightA);
+        markDirty(highlightB);
+        highlightA = first;
+        highlightB = second;
+        markDirty(highlightA);
+        markDirty(highlightB);
+    }
+
+    /**
+     * Redibuja solo las columnas marcadas desde el último {@code flush}.
+     */
+    public void flush() {
+        if (columns == 0) {
+            dirty.clear();
+            return;
+        }
+        GraphicsContext g = getGraphicsContext2D();
+        for (int c = dirty.nextSetBit(0); c >= 0 && c < columns; c = dirty.nextSetBit(c + 1)) {
+            drawColumn(g, c);
+        }
+        dirty.clear();
+    }
+
+    /**
+     * Recalcula la distribución de columnas y redibuja todo el lienzo.
+     */
+    public void redrawAll() {
+        double usableWidth = Math.max(getWidth() - MARGIN_LEFT - MARGIN_RIGHT, 0);
+        columns = (int) Math.min(data.length, Math.floor(usableWidth));
+        columnWidth = columns == 0 ? 0 : usableWidth / columns;
+
+        GraphicsContext g = getGraphicsContext2D();
+        g.setFill(background);
+        g.fillRect(0, 0, getWidth(), getHeight());
+        dirty.clear();
+        dirty.set(0, columns);
+        flush();
+    }
+
+    /**
+     * @param index índice del elemento
+     * @return la columna en la que se dibuja el elemento
+     */
+    private int columnOf(int index) {
+        if (columns == data.length) {
+            return index;
+        }
+        return (int) ((long) index * columns / data.length);
+    }
+
+    /**
+     * Dibuja una columna: una barra por elemento, o la banda min/max de los
+     * elementos agrupados en ella.
+     *
+     * @param g contexto gráfico del lienzo
+     * @param c índice de la columna
+     */
+    private void drawColumn(GraphicsContext g, int c) {
+        double height = getHeight();
+        double usableHeight = Math.max(height - MARGIN_TOP - MARGIN_BOTTOM, 0);
+        double x = MARGIN_LEFT + c * columnWidth;
+
+        g.setFill(background);
+        g.fillRect(x, 0, columnWidth, height);
+
+        // Elementos i con floor(i·columns / n) == c, coherente con columnOf
+        int from = (int) (((long) c * data.length + columns - 1) / columns);
+        int to = (int) (((long) (c + 1) * data.length + columns - 1) / columns);
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        boolean hasA = false;
+        boolean hasB = false;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, data[i]);
+            max = Math.max(max, data[i]);
+            hasA |= i == highlightA;
+            hasB |= i == highlightB;
+        }
+
+        double gap = columnWidth > 6 ? 3 : 0;
+        double barWidth = columnWidth - gap;
+        double base = height - MARGIN_BOTTOM;
+        double minHeight = Math.max(min, 0) * usableHeight / maxValue;
+        double maxHeight = Math.max(max, 0) * usableHeight / maxValue;
+
+        g.setFill(hasA ? highlightColor : hasB ? accentColor : barColor);
+        g.fillRect(x, base - minHeight, barWidth, minHeight);
+        if (maxHeight > minHeight) {
+            g.setFill(hasA || hasB ? g.getFill() : bandColor);
+            g.fillRect(x, base - maxHeight, barWidth, maxHeight - minHeight);
+        }
+
+        if (to - from == 1 && columnWidth >= MIN_LABEL_WIDTH) {
+            g.setFill(textColor);
+            g.setFont(Font.font(10));
+            g.setTextAlign(TextAlignment.CENTER);
+            g.setTextBaseline(VPos.BOTTOM);
+            g.fillText(String.valueOf(max), x + barWidth / 2, base - maxHeight - 2);
+        }
+    }
+}
@@ -1,11 +1,19 @@
 module ec.edu.epn {
     requires javafx.controls;
     requires javafx.graphics;
+    requires transitive java.management;
+    requires jdk.management;
+    requires transitive jdk.jfr;
     requires org.apache.poi.poi;
     requires org.apache.poi.ooxml;
 
     exports ec.edu.epn;
+    exports ec.edu.epn.cli;
     exports ec.edu.epn.controller;
+    exports ec.edu.epn.model;
+    exports ec.edu.epn.model.benchmark;
+    exports ec.edu.epn.model.monitoring;
+    exports ec.edu.epn.model.parallel;
     
 
     opens ec.edu.epn.controller to javafx.fxml;
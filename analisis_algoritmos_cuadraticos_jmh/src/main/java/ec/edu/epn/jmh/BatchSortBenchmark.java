@@ -0,0 +1,114 @@
+package ec.edu.epn.jmh;
+
+import ec.edu.epn.model.SortAlgorithm;
+import ec.edu.epn.model.SortAlgorithms;
+import ec.edu.epn.model.parallel.BatchSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de ordenar muchos arreglos pequeños: un bucle que llama a
+ * {@code sort(int[])} sobre cada arreglo frente a {@link BatchSort} con un
+ * {@code int[][]} y con un único búfer plano.
+ *
+ * Cada invocación ordena {@value #ARRAYS} arreglos y el resultado se informa
+ * en arreglos ordenados por segundo.
+ *
+ * Uso:
+ *
+ * <pre>{@code
+ * java -jar analisis_algoritmos_cuadraticos_jmh/target/benchmarks.jar BatchSortBenchmark
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BatchSortBenchmark.ARRAYS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchSortBenchmark {
+
+    /** Arreglos que se ordenan en cada invocación */
+    static final int ARRAYS = 1 << 14;
+
+    /** Semilla fija para que todas las bifurcaciones midan la misma entrada */
+    private static final long SEED = 42L;
+
+    @Param({ "Bubble Sort", "Selection Sort", "Insertion Sort" })
+    private String algorithm;
+
+    @Param({ "8", "16", "32", "64" })
+    private int length;
+
+    private SortAlgorithm sorter;
+    private BatchSort batch;
+    private int[] source;
+    private int[][] arrays;
+    private int[] flat;
+    private int[] offsets;
+
+    /**
+     * Crea el algoritmo y las entradas una sola vez por ensayo.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sorter = SortAlgorithms.byName(algorithm);
+        batch = new BatchSort(sorter);
+        source = new SplittableRandom(SEED).ints(ARRAYS * length).toArray();
+        arrays = new int[ARRAYS][length];
+        flat = new int[ARRAYS * length];
+        offsets = new int[ARRAYS + 1];
+        for (int i = 0; i <= ARRAYS; i++)
+            offsets[i] = i * length;
+    }
+
+    /**
+     * Restaura las entradas antes de cada invocación, sin reservar memoria.
+     */
+    @Setup(Level.Invocation)
+    public void resetInput() {
+        for (int i = 0; i < ARRAYS; i++)
+            System.arraycopy(source, i * length, arrays[i], 0, length);
+        System.arraycopy(source, 0, flat, 0, flat.length);
+    }
+
+    /**
+     * Llama a {@code sort(int[])} sobre cada arreglo en un bucle.
+     *
+     * @return los arreglos ordenados
+     */
+    @Benchmark
+    public int[][] loop() {
+        for (int[] array : arrays)
+            sorter.sort(array);
+        return arrays;
+    }
+
+    /**
+     * Ordena los arreglos del {@code int[][]} en paralelo.
+     *
+     * @return los arreglos ordenados
+     */
+    @Benchmark
+    public int[][] batchArrays() {
+        batch.sortAll(arrays);
+        return arrays;
+    }
+
+    /**
+     * Ordena los segmentos del búfer plano en paralelo.
+     *
+     * @return el búfer con cada segmento ordenado
+     */
+    @Benchmark
+    public int[] batchFlat() {
+        batch.sortAll(flat, offsets);
+        return flat;
+    }
+}
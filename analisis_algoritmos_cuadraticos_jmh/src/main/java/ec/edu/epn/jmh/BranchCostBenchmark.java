@@ -0,0 +1,99 @@
+package ec.edu.epn.jmh;
+
+import ec.edu.epn.model.BranchlessBubbleSort;
+import ec.edu.epn.model.BranchlessSelectionSort;
+import ec.edu.epn.model.BubbleSort;
+import ec.edu.epn.model.DataGenerator;
+import ec.edu.epn.model.SelectionSort;
+import ec.edu.epn.model.SortAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH del costo de las predicciones de salto fallidas: Bubble Sort y
+ * Selection Sort frente a sus variantes sin saltos en los cinco tipos de
+ * lista.
+ *
+ * Con el perfilador de contadores de hardware se ve directamente la cantidad
+ * de predicciones fallidas por operación de cada versión:
+ *
+ * <pre>{@code
+ * java -jar analisis_algoritmos_cuadraticos_jmh/target/benchmarks.jar BranchCostBenchmark -prof perfnorm
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BranchCostBenchmark {
+
+    /** Semilla fija para que todas las bifurcaciones midan la misma entrada */
+    private static final long SEED = 42L;
+
+    @Param({ "Bubble Sort", "Selection Sort" })
+    private String algorithm;
+
+    @Param({ "1000", "10000" })
+    private int size;
+
+    @Param({ "Ordenada", "Inversamente ordenada", "Aleatoria", "Casi ordenada", "Con duplicados" })
+    private String listType;
+
+    private SortAlgorithm branchy;
+    private SortAlgorithm branchless;
+    private int[] source;
+    private int[] working;
+
+    /**
+     * Crea la pareja de algoritmos y la entrada una sola vez por ensayo.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        if ("Bubble Sort".equals(algorithm)) {
+            branchy = new BubbleSort();
+            branchless = new BranchlessBubbleSort();
+        } else {
+            branchy = new SelectionSort();
+            branchless = new BranchlessSelectionSort();
+        }
+        source = new DataGenerator(SEED).generate(listType, size);
+        working = new int[size];
+    }
+
+    /**
+     * Restaura la entrada antes de cada invocación, sin reservar memoria.
+     */
+    @Setup(Level.Invocation)
+    public void resetInput() {
+        System.arraycopy(source, 0, working, 0, size);
+    }
+
+    /**
+     * Ordena con la versión original, cuyo bucle interno salta según cada
+     * comparación.
+     *
+     * @return el arreglo ordenado
+     */
+    @Benchmark
+    public int[] branchy() {
+        branchy.sort(working);
+        return working;
+    }
+
+    /**
+     * Ordena con la variante sin saltos.
+     *
+     * @return el arreglo ordenado
+     */
+    @Benchmark
+    public int[] branchless() {
+        branchless.sort(working);
+        return working;
+    }
+}
@@ -0,0 +1,125 @@
+package ec.edu.epn.jmh;
+
+import ec.edu.epn.model.PrimitiveSortAlgorithm;
+import ec.edu.epn.model.SortAlgorithms;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH del efecto del ancho de elemento: el mismo algoritmo ordena
+ * arreglos aleatorios de {@code byte}, {@code short}, {@code int},
+ * {@code long} y {@code double} del mismo tamaño.
+ *
+ * El número de comparaciones e intercambios es el mismo para todos los tipos;
+ * lo que cambia son los bytes que se mueven por la caché. Los tamaños se
+ * eligen para que el arreglo de {@code long}/{@code double} (8 bytes por
+ * elemento) quepa en L1, en L2 o solo en L3 en una máquina típica, mientras
+ * que el de {@code byte} sigue cabiendo en L1.
+ *
+ * Uso:
+ *
+ * <pre>{@code
+ * java -jar analisis_algoritmos_cuadraticos_jmh/target/benchmarks.jar ElementWidthBenchmark
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ElementWidthBenchmark {
+
+    /** Semilla fija para que todas las bifurcaciones midan la misma entrada */
+    private static final long SEED = 42L;
+
+    @Param({ "Bubble Sort", "Selection Sort", "Insertion Sort" })
+    private String algorithm;
+
+    @Param({ "1000", "4000", "16000" })
+    private int size;
+
+    @Param({ "byte", "short", "int", "long", "double" })
+    private String width;
+
+    private PrimitiveSortAlgorithm sorter;
+    private Object source;
+    private Object working;
+
+    /**
+     * Crea el algoritmo y la entrada del ancho indicado una sola vez por
+     * ensayo.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sorter = (PrimitiveSortAlgorithm) SortAlgorithms.byName(algorithm);
+        SplittableRandom rnd = new SplittableRandom(SEED);
+        switch (width) {
+            case "byte": {
+                byte[] data = new byte[size];
+                for (int i = 0; i < size; i++)
+                    data[i] = (byte) rnd.nextInt();
+                source = data;
+                working = new byte[size];
+                break;
+            }
+            case "short": {
+                short[] data = new short[size];
+                for (int i = 0; i < size; i++)
+                    data[i] = (short) rnd.nextInt();
+                source = data;
+                working = new short[size];
+                break;
+            }
+            case "int":
+                source = rnd.ints(size).toArray();
+                working = new int[size];
+                break;
+            case "long":
+                source = rnd.longs(size).toArray();
+                working = new long[size];
+                break;
+            case "double":
+                source = rnd.doubles(size, -1.0, 1.0).toArray();
+                working = new double[size];
+                break;
+            default:
+                throw new IllegalArgumentException("Ancho desconocido: " + width);
+        }
+    }
+
+    /**
+     * Restaura la entrada antes de cada invocación, sin reservar memoria.
+     */
+    @Setup(Level.Invocation)
+    public void resetInput() {
+        System.arraycopy(source, 0, working, 0, size);
+    }
+
+    /**
+     * Ordena la entrada con la variante del tipo de elemento seleccionado.
+     *
+     * @return el arreglo ordenado, para evitar la eliminación de código muerto
+     */
+    @Benchmark
+    public Object sort() {
+        Object array = working;
+        if (array instanceof byte[] bytes) {
+            sorter.sort(bytes);
+        } else if (array instanceof short[] shorts) {
+            sorter.sort(shorts);
+        } else if (array instanceof int[] ints) {
+            sorter.sort(ints);
+        } else if (array instanceof long[] longs) {
+            sorter.sort(longs);
+        } else {
+            sorter.sort((double[]) array);
+        }
+        return array;
+    }
+}
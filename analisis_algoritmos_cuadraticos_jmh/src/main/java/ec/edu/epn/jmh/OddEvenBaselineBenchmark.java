@@ -0,0 +1,68 @@
+package ec.edu.epn.jmh;
+
+import ec.edu.epn.model.BubbleSort;
+import ec.edu.epn.model.InputShapes;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Referencia de {@link OddEvenSortBenchmark}: Bubble Sort en un solo hilo
+ * sobre la misma entrada. No tiene parámetro de hilos, así que se mide una
+ * sola vez por tamaño en lugar de repetirse con cada número de hilos.
+ *
+ * Uso:
+ *
+ * <pre>{@code
+ * java -jar analisis_algoritmos_cuadraticos_jmh/target/benchmarks.jar OddEvenBaselineBenchmark
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OddEvenBaselineBenchmark {
+
+    /** Semilla de {@link OddEvenSortBenchmark}, para medir la misma entrada */
+    private static final long SEED = 42L;
+
+    @Param({ "2000", "20000" })
+    private int size;
+
+    private final BubbleSort bubbleSort = new BubbleSort();
+    private int[] source;
+    private int[] working;
+
+    /**
+     * Crea la entrada una sola vez por ensayo.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        source = InputShapes.generate("Aleatoria", size, SEED);
+        working = new int[size];
+    }
+
+    /**
+     * Restaura la entrada antes de cada invocación, sin reservar memoria.
+     */
+    @Setup(Level.Invocation)
+    public void resetInput() {
+        System.arraycopy(source, 0, working, 0, size);
+    }
+
+    /**
+     * Bubble Sort en un solo hilo.
+     *
+     * @return el arreglo ordenado
+     */
+    @Benchmark
+    public int[] bubbleSort() {
+        bubbleSort.sort(working);
+        return working;
+    }
+}
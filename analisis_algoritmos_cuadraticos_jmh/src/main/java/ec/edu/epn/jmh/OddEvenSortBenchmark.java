@@ -0,0 +1,120 @@
+package ec.edu.epn.jmh;
+
+import ec.edu.epn.model.InputShapes;
+import ec.edu.epn.model.parallel.ParallelOddEvenSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de {@link ParallelOddEvenSort} según el número de hilos.
+ *
+ * <ul>
+ * <li>{@code oddEven}: transposición par-impar con {@code threads} hilos; la
+ * aceleración es el tiempo de {@link OddEvenBaselineBenchmark} (Bubble Sort
+ * en un solo hilo, que no depende de {@code threads} y por eso se mide
+ * aparte) dividido entre el de {@code oddEven}.</li>
+ * <li>{@code barriersOnly}: los mismos hilos que usa {@code oddEven} con esta
+ * entrada pasando por las mismas barreras, una por fase durante las mismas
+ * fases (incluida la última, sin intercambios), sin comparar nada; es decir,
+ * el coste de sincronización. Dividido entre el número de fases da el coste
+ * por barrera.</li>
+ * </ul>
+ *
+ * Uso:
+ *
+ * <pre>{@code
+ * java -jar analisis_algoritmos_cuadraticos_jmh/target/benchmarks.jar "OddEven(Sort|Baseline)Benchmark"
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OddEvenSortBenchmark {
+
+    /** Semilla fija para que todas las bifurcaciones midan la misma entrada */
+    private static final long SEED = 42L;
+
+    @Param({ "2000", "20000" })
+    private int size;
+
+    @Param({ "1", "2", "4", "8" })
+    private int threads;
+
+    private ParallelOddEvenSort oddEven;
+    private int[] source;
+    private int[] working;
+
+    /** Hilos que usa {@code oddEven} con esta entrada */
+    private int workers;
+
+    /** Barreras que cruza cada hilo de {@code oddEven} con esta entrada */
+    private int barriers;
+
+    /**
+     * Crea el algoritmo y la entrada una sola vez por ensayo, y cuenta los
+     * hilos y las barreras que necesita la entrada.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        oddEven = new ParallelOddEvenSort(threads);
+        source = InputShapes.generate("Aleatoria", size, SEED);
+        working = new int[size];
+        workers = oddEven.workersFor(size);
+        barriers = workers == 1 ? 0 : ParallelOddEvenSort.phases(source);
+    }
+
+    /**
+     * Restaura la entrada antes de cada invocación, sin reservar memoria.
+     */
+    @Setup(Level.Invocation)
+    public void resetInput() {
+        System.arraycopy(source, 0, working, 0, size);
+    }
+
+    /**
+     * Transposición par-impar en paralelo.
+     *
+     * @return el arreglo ordenado
+     */
+    @Benchmark
+    public int[] oddEven() {
+        oddEven.sort(working);
+        return working;
+    }
+
+    /**
+     * Solo la sincronización: crea los mismos hilos que {@code oddEven} y los
+     * hace pasar por un {@link Phaser} tantas veces como las fases de
+     * {@code oddEven} con esta entrada.
+     *
+     * @return la fase final del {@link Phaser}
+     * @throws InterruptedException si se interrumpe la espera de los hilos
+     */
+    @Benchmark
+    public int barriersOnly() throws InterruptedException {
+        Phaser phaser = new Phaser(workers);
+        Thread[] helpers = new Thread[workers - 1];
+        for (int w = 0; w < helpers.length; w++) {
+            helpers[w] = new Thread(() -> {
+                for (int b = 0; b < barriers; b++)
+                    phaser.arriveAndAwaitAdvance();
+            });
+            helpers[w].setDaemon(true);
+            helpers[w].start();
+        }
+        int last = 0;
+        for (int b = 0; b < barriers; b++)
+            last = phaser.arriveAndAwaitAdvance();
+        for (Thread helper : helpers)
+            helper.join();
+        return last;
+    }
+}
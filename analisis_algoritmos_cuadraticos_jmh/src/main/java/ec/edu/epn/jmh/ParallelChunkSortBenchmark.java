@@ -0,0 +1,108 @@
+package ec.edu.epn.jmh;
+
+import ec.edu.epn.model.InputShapes;
+import ec.edu.epn.model.SortAlgorithm;
+import ec.edu.epn.model.SortAlgorithms;
+import ec.edu.epn.model.parallel.ParallelChunkSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de {@link ParallelChunkSort} frente al mismo algoritmo
+ * cuadrático en un solo hilo.
+ *
+ * {@code threads} fija el paralelismo del pool (0 usa todos los núcleos) y el
+ * número de bloques es {@value ParallelChunkSort#DEFAULT_CHUNKS_PER_THREAD}
+ * por hilo. La aceleración frente a {@code sequential} combina dos efectos:
+ * dividir en k bloques reduce el trabajo cuadrático a n²/k aun con un hilo, y
+ * los bloques se reparten entre los núcleos.
+ *
+ * Uso:
+ *
+ * <pre>{@code
+ * java -jar analisis_algoritmos_cuadraticos_jmh/target/benchmarks.jar ParallelChunkSortBenchmark
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ParallelChunkSortBenchmark {
+
+    /** Semilla fija para que todas las bifurcaciones midan la misma entrada */
+    private static final long SEED = 42L;
+
+    @Param({ "Bubble Sort", "Selection Sort", "Insertion Sort" })
+    private String leaf;
+
+    @Param({ "10000", "40000" })
+    private int size;
+
+    @Param({ "1", "2", "4", "0" })
+    private int threads;
+
+    private SortAlgorithm sequential;
+    private ParallelChunkSort parallel;
+    private ForkJoinPool pool;
+    private int[] source;
+    private int[] working;
+
+    /**
+     * Crea el pool, los algoritmos y la entrada una sola vez por ensayo.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        int parallelism = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+        pool = new ForkJoinPool(parallelism);
+        sequential = SortAlgorithms.byName(leaf);
+        parallel = new ParallelChunkSort(sequential, parallelism * ParallelChunkSort.DEFAULT_CHUNKS_PER_THREAD,
+                pool);
+        source = InputShapes.generate("Aleatoria", size, SEED);
+        working = new int[size];
+    }
+
+    /**
+     * Cierra el pool al terminar el ensayo.
+     */
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        pool.shutdown();
+    }
+
+    /**
+     * Restaura la entrada antes de cada invocación, sin reservar memoria.
+     */
+    @Setup(Level.Invocation)
+    public void resetInput() {
+        System.arraycopy(source, 0, working, 0, size);
+    }
+
+    /**
+     * Algoritmo de las hojas sobre el arreglo completo, en un solo hilo.
+     *
+     * @return el arreglo ordenado
+     */
+    @Benchmark
+    public int[] sequential() {
+        sequential.sort(working);
+        return working;
+    }
+
+    /**
+     * Ordenamiento por bloques en paralelo.
+     *
+     * @return el arreglo ordenado
+     */
+    @Benchmark
+    public int[] parallel() {
+        parallel.sort(working);
+        return working;
+    }
+}
@@ -0,0 +1,109 @@
+package ec.edu.epn.jmh;
+
+import ec.edu.epn.model.InsertionSort;
+import ec.edu.epn.model.RecordSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de ordenar registros por clave: Insertion Sort sobre un
+ * {@code Object[]} con un {@code Comparator} frente a
+ * {@link RecordSort}, que ordena las claves en un arreglo primitivo con sus
+ * índices y reordena los registros una sola vez al final.
+ *
+ * Uso:
+ *
+ * <pre>{@code
+ * java -jar analisis_algoritmos_cuadraticos_jmh/target/benchmarks.jar RecordSortBenchmark
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RecordSortBenchmark {
+
+    /** Semilla fija para que todas las bifurcaciones midan la misma entrada */
+    private static final long SEED = 42L;
+
+    /** Orden por marca de tiempo y, a igualdad, por identificador */
+    private static final Comparator<Row> BY_TIME_THEN_ID = Comparator.comparingInt(Row::timestamp)
+            .thenComparingInt(Row::id);
+
+    /**
+     * Registro de ejemplo con una carga útil que no participa en el orden.
+     *
+     * @param timestamp campo principal del orden
+     * @param id        campo secundario del orden
+     * @param payload   datos que acompañan al registro
+     */
+    public record Row(int timestamp, int id, String payload) {
+    }
+
+    @Param({ "1000", "10000" })
+    private int size;
+
+    private Row[] source;
+    private Row[] working;
+    private final InsertionSort insertionSort = new InsertionSort();
+
+    /**
+     * Crea los registros una sola vez por ensayo, con marcas de tiempo
+     * repetidas para que el campo secundario también decida el orden.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        SplittableRandom rnd = new SplittableRandom(SEED);
+        source = new Row[size];
+        for (int i = 0; i < size; i++)
+            source[i] = new Row(rnd.nextInt(size / 4 + 1), rnd.nextInt(), "fila " + i);
+        working = new Row[size];
+    }
+
+    /**
+     * Restaura el orden original antes de cada invocación.
+     */
+    @Setup(Level.Invocation)
+    public void resetInput() {
+        System.arraycopy(source, 0, working, 0, size);
+    }
+
+    /**
+     * Insertion Sort clásico sobre objetos con un comparador compuesto.
+     *
+     * @return los registros ordenados
+     */
+    @Benchmark
+    public Row[] comparator() {
+        Row[] rows = working;
+        for (int i = 1; i < rows.length; ++i) {
+            Row key = rows[i];
+            int j = i - 1;
+            while (j >= 0 && BY_TIME_THEN_ID.compare(rows[j], key) > 0) {
+                rows[j + 1] = rows[j];
+                j = j - 1;
+            }
+            rows[j + 1] = key;
+        }
+        return rows;
+    }
+
+    /**
+     * Insertion Sort sobre claves empaquetadas e índices paralelos.
+     *
+     * @return los registros ordenados
+     */
+    @Benchmark
+    public Row[] packedKeys() {
+        RecordSort.sortByLong(insertionSort, working, row -> RecordSort.packKey(row.timestamp(), row.id()));
+        return working;
+    }
+}
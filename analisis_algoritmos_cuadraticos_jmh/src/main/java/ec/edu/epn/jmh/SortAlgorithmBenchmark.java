@@ -0,0 +1,98 @@
+package ec.edu.epn.jmh;
+
+import ec.edu.epn.model.DataGenerator;
+import ec.edu.epn.model.DatasetCache;
+import ec.edu.epn.model.SortAlgorithm;
+import ec.edu.epn.model.SortAlgorithms;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de cada {@link SortAlgorithm} registrado en
+ * {@link SortAlgorithms}.
+ *
+ * Se parametriza por algoritmo, tamaño del arreglo y tipo de lista. Antes de
+ * cada invocación se restaura la entrada original, de modo que cada llamada a
+ * {@code sort} ordena siempre el mismo arreglo desordenado y no uno ya
+ * ordenado por la invocación anterior.
+ *
+ * Uso:
+ *
+ * <pre>{@code
+ * mvn -B install
+ * java -jar analisis_algoritmos_cuadraticos_jmh/target/benchmarks.jar SortAlgorithmBenchmark
+ * }</pre>
+ *
+ * Con {@code -Dsort.datasets=<directorio>} las entradas se guardan en disco la
+ * primera vez y todas las bifurcaciones proyectan en memoria los mismos
+ * archivos (ver {@link DatasetCache}).
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SortAlgorithmBenchmark {
+
+    /** Semilla fija para que todas las bifurcaciones midan la misma entrada */
+    private static final long SEED = 42L;
+
+    /** Propiedad del sistema con el directorio del almacén de entradas */
+    private static final String DATASETS_PROPERTY = "sort.datasets";
+
+    @Param({ "Bubble Sort", "Selection Sort", "Insertion Sort", "Bubble Sort (salida temprana)",
+            "Cocktail Shaker Sort", "Selection Sort (doble)", "Binary Insertion Sort", "Hybrid Sort" })
+    private String algorithm;
+
+    @Param({ "100", "1000", "10000" })
+    private int size;
+
+    @Param({ "Ordenada", "Inversamente ordenada", "Aleatoria", "Casi ordenada", "Con duplicados" })
+    private String listType;
+
+    private SortAlgorithm sorter;
+    private int[] source;
+    private int[] working;
+
+    /**
+     * Crea el algoritmo y la entrada original una sola vez por ensayo.
+     *
+     * @throws IOException si falla la lectura del almacén de entradas
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() throws IOException {
+        sorter = SortAlgorithms.byName(algorithm);
+        DataGenerator generator = new DataGenerator(SEED);
+        String datasets = System.getProperty(DATASETS_PROPERTY);
+        source = datasets == null
+                ? generator.generate(listType, size)
+                : new DatasetCache(Paths.get(datasets), generator).load(listType, size);
+        working = new int[size];
+    }
+
+    /**
+     * Restaura la entrada antes de cada invocación, sin reservar memoria.
+     */
+    @Setup(Level.Invocation)
+    public void resetInput() {
+        System.arraycopy(source, 0, working, 0, size);
+    }
+
+    /**
+     * Ordena la entrada con el algoritmo seleccionado.
+     *
+     * @return el arreglo ordenado, para evitar la eliminación de código muerto
+     */
+    @Benchmark
+    public int[] sort() {
+        sorter.sort(working);
+        return working;
+    }
+}
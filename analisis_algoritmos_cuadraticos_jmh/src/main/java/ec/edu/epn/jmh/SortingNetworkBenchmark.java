@@ -0,0 +1,89 @@
+package ec.edu.epn.jmh;
+
+import ec.edu.epn.model.InsertionSort;
+import ec.edu.epn.model.SortingNetworkSort;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH de las redes de ordenamiento de {@link SortingNetworkSort}
+ * frente a {@link InsertionSort} en bloques de 8, 16 y 32 elementos.
+ *
+ * Cada invocación ordena {@value #BLOCKS} bloques consecutivos de un búfer
+ * con datos aleatorios y el resultado se informa en nanosegundos por bloque.
+ *
+ * Uso:
+ *
+ * <pre>{@code
+ * java -jar analisis_algoritmos_cuadraticos_jmh/target/benchmarks.jar SortingNetworkBenchmark
+ * }</pre>
+ *
+ * @author
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(SortingNetworkBenchmark.BLOCKS)
+@State(Scope.Thread)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SortingNetworkBenchmark {
+
+    /** Bloques que se ordenan en cada invocación */
+    static final int BLOCKS = 1 << 12;
+
+    /** Semilla fija para que todas las bifurcaciones midan la misma entrada */
+    private static final long SEED = 42L;
+
+    @Param({ "8", "16", "32" })
+    private int block;
+
+    private final InsertionSort insertionSort = new InsertionSort();
+    private final SortingNetworkSort network = new SortingNetworkSort();
+    private int[] source;
+    private int[] working;
+
+    /**
+     * Crea la entrada una sola vez por ensayo.
+     */
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        source = new SplittableRandom(SEED).ints(BLOCKS * block).toArray();
+        working = new int[source.length];
+    }
+
+    /**
+     * Restaura la entrada antes de cada invocación, sin reservar memoria.
+     */
+    @Setup(Level.Invocation)
+    public void resetInput() {
+        System.arraycopy(source, 0, working, 0, source.length);
+    }
+
+    /**
+     * Ordena cada bloque con Insertion Sort.
+     *
+     * @return el búfer con cada bloque ordenado
+     */
+    @Benchmark
+    public int[] insertionSort() {
+        for (int from = 0; from < working.length; from += block)
+            insertionSort.sort(working, from, from + block);
+        return working;
+    }
+
+    /**
+     * Ordena cada bloque con la red de ordenamiento.
+     *
+     * @return el búfer con cada bloque ordenado
+     */
+    @Benchmark
+    public int[] sortingNetwork() {
+        for (int from = 0; from < working.length; from += block)
+            network.sort(working, from, from + block);
+        return working;
+    }
+}